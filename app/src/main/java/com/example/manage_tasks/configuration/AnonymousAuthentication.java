@@ -0,0 +1,56 @@
+package com.example.manage_tasks.configuration;
+
+import java.util.Collection;
+
+import com.example.manage_tasks.utils.AuthorityRegistry;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+public final class AnonymousAuthentication implements Authentication {
+    public static final AnonymousAuthentication INSTANCE = new AnonymousAuthentication();
+    private static final long serialVersionUID = 1L;
+
+    private AnonymousAuthentication() {
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AuthorityRegistry.NONE.getAuthorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (!authenticated)
+            throw new IllegalArgumentException("the shared anonymous authentication is immutable");
+    }
+
+    @Override
+    public String getName() {
+        return "anonymous";
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+}
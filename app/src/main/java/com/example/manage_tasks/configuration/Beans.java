@@ -0,0 +1,40 @@
+package com.example.manage_tasks.configuration;
+
+import com.example.manage_tasks.exceptions.UserNotFoundException;
+import com.example.manage_tasks.models.CustomUserDetails;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.repositories.UserRepository;
+import com.example.manage_tasks.utils.PasswordEncoders;
+import com.example.manage_tasks.validators.EmailValidator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor()
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnIssuer
+public class Beans {
+    private final UserRepository userRepository;
+    private final EmailValidator emailValidator;
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${hashing.cost:10}") int cost,
+            @Value("${hashing.calibrate:false}") boolean calibrate,
+            @Value("${hashing.target_millis:250}") long targetMillis) {
+        int effectiveCost = calibrate ? PasswordEncoders.calibrate(algorithm, targetMillis) : cost;
+        return PasswordEncoders.delegating(algorithm, effectiveCost);
+    }
+    @Bean
+    public UserDetailsService userDetailsService() {
+        return email -> {
+            User user = userRepository.findByEmail(emailValidator.normalize(email)).orElseThrow(UserNotFoundException::new);
+            return new CustomUserDetails(
+                    user);
+        } ;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.manage_tasks.configuration;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+/**
+ * Marks beans that issue tokens or own user data. Setting {@code node.role=verifier} leaves them out, together with
+ * everything that needs a datasource; see application-verifier.yml.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConditionalOnProperty(name = "node.role", havingValue = "issuer", matchIfMissing = true)
+public @interface ConditionalOnIssuer {
+}
@@ -0,0 +1,30 @@
+package com.example.manage_tasks.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnIssuer
+public class HikariPoolSizer implements BeanPostProcessor {
+    private final int poolSize;
+
+    public HikariPoolSizer(@Value("${datasource.connections_per_core:0}") int connectionsPerCore,
+            @Value("${datasource.spindles:1}") int spindles) {
+        this.poolSize = connectionsPerCore > 0
+                ? Runtime.getRuntime().availableProcessors() * connectionsPerCore + spindles
+                : 0;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (poolSize > 0 && bean instanceof HikariDataSource) {
+            HikariDataSource dataSource = (HikariDataSource) bean;
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSource.setMinimumIdle(poolSize);
+        }
+        return bean;
+    }
+}
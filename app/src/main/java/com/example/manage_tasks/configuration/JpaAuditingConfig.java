@@ -0,0 +1,10 @@
+package com.example.manage_tasks.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnIssuer
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
@@ -0,0 +1,115 @@
+package com.example.manage_tasks.configuration;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.example.manage_tasks.exceptions.InvalidTokenException;
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.example.manage_tasks.utils.AuthMetrics;
+import com.example.manage_tasks.utils.JwtUtils;
+import com.example.manage_tasks.utils.RouteMatcher;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.jsonwebtoken.JwtException;
+
+public class JwtFilter extends OncePerRequestFilter {
+        private final JwtUtils jwtUtils;
+        private final AuthMetrics metrics;
+        private final String cookieName;
+        private final String clearedCookie;
+        private final RouteMatcher publicRoutes;
+
+        public JwtFilter(JwtUtils jwtUtils, AuthMetrics metrics, String cookieName, RouteMatcher publicRoutes) {
+                this.jwtUtils = jwtUtils;
+                this.metrics = metrics;
+                this.cookieName = cookieName;
+                this.publicRoutes = publicRoutes;
+                this.clearedCookie = ResponseCookie.from(cookieName, "").httpOnly(true).maxAge(0).build().toString();
+        }
+
+        @Override
+        protected boolean shouldNotFilter(HttpServletRequest request) {
+                String pathInfo = request.getPathInfo();
+                String path = pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+                if (!publicRoutes.matches(request.getMethod(), path))
+                        return false;
+                metrics.getPublicRequests().increment();
+                return true;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                        FilterChain filterChain) throws ServletException, IOException {
+                long start = metrics.start();
+                String token = tokenCookie(request.getCookies());
+                try {
+                        if (token == null)
+                                createdBaseUser();
+                        else
+                                createJwtUser(token, request);
+                } catch (InvalidTokenException e) {
+                        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                        response.addHeader(HttpHeaders.SET_COOKIE, clearedCookie);
+                        return;
+                } finally {
+                        metrics.stop(metrics.getFilterTimer(), start);
+                }
+                filterChain.doFilter(request, response);
+        }
+
+        private String tokenCookie(Cookie[] cookies) {
+                if (cookies == null)
+                        return null;
+                for (Cookie cookie : cookies) {
+                        if (cookieName.equals(cookie.getName()))
+                                return cookie.getValue();
+                }
+                return null;
+        }
+
+        private void createJwtUser(String token, HttpServletRequest request) {
+                TokenPrincipal principal = verify(token);
+                if (principal.isExpired())
+                        throw reject(InvalidTokenException.of(InvalidTokenException.Reason.EXPIRED));
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(principal,
+                                null,
+                                principal.getAuthorities());
+                authentication.setDetails(
+                                new WebAuthenticationDetailsSource().buildDetails(request));
+
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                metrics.getAuthenticatedRequests().increment();
+        }
+
+        private TokenPrincipal verify(String token) {
+                long start = metrics.start();
+                try {
+                        return jwtUtils.verify(token);
+                } catch (JwtException | IllegalArgumentException e) {
+                        throw reject(InvalidTokenException.from(e));
+                } finally {
+                        metrics.stop(metrics.getVerifyTimer(), start);
+                }
+        }
+
+        private InvalidTokenException reject(InvalidTokenException e) {
+                metrics.rejected(e.getReason().tag());
+                return e;
+        }
+
+        public void createdBaseUser() {
+                SecurityContextHolder.getContext().setAuthentication(AnonymousAuthentication.INSTANCE);
+                metrics.getAnonymousRequests().increment();
+        }
+}
@@ -0,0 +1,62 @@
+package com.example.manage_tasks.configuration;
+
+import com.example.manage_tasks.exceptions.InvalidTokenException;
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.example.manage_tasks.utils.AuthMetrics;
+import com.example.manage_tasks.utils.JwtUtils;
+
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import io.jsonwebtoken.JwtException;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@AllArgsConstructor
+public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+    private final JwtUtils jwtUtils;
+    private final AuthMetrics metrics;
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        if (authentication.isAuthenticated())
+            return Mono.just(authentication);
+        return Mono.fromCallable(() -> {
+            TokenPrincipal principal = verify((String) authentication.getCredentials());
+            if (principal.isExpired())
+                throw reject(InvalidTokenException.of(InvalidTokenException.Reason.EXPIRED));
+            metrics.getAuthenticatedRequests().increment();
+            return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        });
+    }
+
+    private TokenPrincipal verify(String token) {
+        long start = metrics.start();
+        try {
+            return jwtUtils.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw reject(InvalidTokenException.from(e));
+        } finally {
+            metrics.stop(metrics.getVerifyTimer(), start);
+        }
+    }
+
+    private RejectedTokenException reject(InvalidTokenException e) {
+        metrics.rejected(e.getReason().tag());
+        return new RejectedTokenException(e);
+    }
+
+    static class RejectedTokenException extends AuthenticationException {
+        RejectedTokenException(InvalidTokenException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.manage_tasks.configuration;
+
+import com.example.manage_tasks.utils.AuthMetrics;
+
+import org.springframework.http.HttpCookie;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.ServerWebExchange;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@AllArgsConstructor
+public class JwtServerAuthenticationConverter implements ServerAuthenticationConverter {
+    private final String cookieName;
+    private final AuthMetrics metrics;
+
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(cookieName);
+        if (cookie == null) {
+            metrics.getAnonymousRequests().increment();
+            return Mono.just(AnonymousAuthentication.INSTANCE);
+        }
+        return Mono.just(new UsernamePasswordAuthenticationToken(null, cookie.getValue()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.manage_tasks.configuration;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+/**
+ * Leaves the R2DBC auto-configuration out of servlet applications: a ConnectionFactory makes Boot back off the JDBC
+ * DataSource that JPA and Flyway need. Reactive applications get R2DBC without its transaction manager, since nothing
+ * runs reactive transactions and a second TransactionManager makes {@code @Transactional} ambiguous.
+ */
+public class R2dbcAutoConfigurationFilter implements AutoConfigurationImportFilter, EnvironmentAware {
+    private static final String AUTOCONFIGURE_PACKAGE = "org.springframework.boot.autoconfigure.";
+    private static final String TRANSACTION_MANAGER_AUTOCONFIGURATION =
+            AUTOCONFIGURE_PACKAGE + "r2dbc.R2dbcTransactionManagerAutoConfiguration";
+    private boolean reactive;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        reactive = environment.getProperty("spring.main.web-application-type", WebApplicationType.class)
+                == WebApplicationType.REACTIVE;
+    }
+
+    @Override
+    public boolean[] match(String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
+        boolean[] matches = new boolean[autoConfigurationClasses.length];
+        for (int i = 0; i < autoConfigurationClasses.length; i++) {
+            String name = autoConfigurationClasses[i];
+            matches[i] = name == null || !isR2dbc(name)
+                    || reactive && !TRANSACTION_MANAGER_AUTOCONFIGURATION.equals(name);
+        }
+        return matches;
+    }
+
+    private static boolean isR2dbc(String name) {
+        return name.startsWith(AUTOCONFIGURE_PACKAGE + "r2dbc.")
+                || name.startsWith(AUTOCONFIGURE_PACKAGE + "data.r2dbc.");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.manage_tasks.configuration;
+
+import com.example.manage_tasks.utils.AuthMetrics;
+import com.example.manage_tasks.utils.JwtUtils;
+import com.example.manage_tasks.utils.RouteMatcher;
+import com.example.manage_tasks.utils.RouteMatcher.Route;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher.MatchResult;
+
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtUtils jwtUtils,
+            AuthMetrics authMetrics, @Value("${jwt.cookie_name}") String cookieName) {
+        AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(
+                new JwtReactiveAuthenticationManager(jwtUtils, authMetrics));
+        jwtFilter.setServerAuthenticationConverter(new JwtServerAuthenticationConverter(cookieName, authMetrics));
+        jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+        RouteMatcher publicRoutes = new RouteMatcher(SecurityConfig.PUBLIC_ROUTES);
+        jwtFilter.setRequiresAuthenticationMatcher(exchange -> publicRoutes.matches(
+                exchange.getRequest().getMethodValue(),
+                exchange.getRequest().getPath().pathWithinApplication().value())
+                        ? MatchResult.notMatch()
+                        : MatchResult.match());
+        String clearedCookie = ResponseCookie.from(cookieName, "").httpOnly(true).maxAge(0).build().toString();
+        jwtFilter.setAuthenticationFailureHandler((filterExchange, e) -> {
+            ServerHttpResponse response = filterExchange.getExchange().getResponse();
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            response.getHeaders().add(HttpHeaders.SET_COOKIE, clearedCookie);
+            return response.setComplete();
+        });
+        ServerHttpSecurity.AuthorizeExchangeSpec authorize = http
+                .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange();
+        for (Route route : SecurityConfig.PUBLIC_ROUTES)
+            authorize.pathMatchers(route.getMethod(), route.getPattern()).permitAll();
+        return authorize
+                .pathMatchers(HttpMethod.POST, "/api/v1/users/import").hasAuthority("ADMIN")
+                .anyExchange().authenticated()
+                .and()
+                .csrf().disable()
+                .httpBasic().disable()
+                .formLogin().disable()
+                .logout().disable()
+                .build();
+    }
+
+    // spring-boot-starter-web keeps Tomcat on the classpath; serve the reactive stack from Netty's event loops
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
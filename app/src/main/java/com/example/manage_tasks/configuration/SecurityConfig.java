@@ -0,0 +1,73 @@
+package com.example.manage_tasks.configuration;
+
+import java.util.List;
+
+import com.example.manage_tasks.controllers.JwksController;
+import com.example.manage_tasks.utils.AuthMetrics;
+import com.example.manage_tasks.utils.JwtUtils;
+import com.example.manage_tasks.utils.RouteMatcher;
+import com.example.manage_tasks.utils.RouteMatcher.Route;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.annotation.web.configurers.ExpressionUrlAuthorizationConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import lombok.AllArgsConstructor;
+@EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@AllArgsConstructor
+public class SecurityConfig extends WebSecurityConfigurerAdapter{
+    // permitted to everyone and skipped by the token filters, so nothing here may depend on the caller
+    public static final List<Route> PUBLIC_ROUTES = List.of(
+            Route.any("/h2-console/**"),
+            Route.any("/error"),
+            Route.of(HttpMethod.GET, "/favicon.ico"),
+            Route.of(HttpMethod.GET, "/actuator/health"),
+            Route.of(HttpMethod.GET, JwksController.PATH),
+            Route.of(HttpMethod.POST, "/api/v1/users/signup"),
+            Route.of(HttpMethod.POST, "/api/v1/users/login"),
+            Route.of(HttpMethod.POST, "/api/v1/users/refresh"),
+            Route.of(HttpMethod.POST, "/api/v1/users/logout"));
+    // absent on verifier nodes, which hold no users
+    private final ObjectProvider<UserDetailsService> userDetailsService;
+    private final ObjectProvider<PasswordEncoder> passwordEncoder;
+    private JwtUtils jwtUtils;
+    private final AuthMetrics authMetrics;
+    @Value("${jwt.cookie_name}")
+    private final String jwtCookieName;
+    @Override
+    protected void configure(AuthenticationManagerBuilder auth) throws Exception {
+        UserDetailsService users = userDetailsService.getIfAvailable();
+        if (users != null)
+            auth.userDetailsService(users).passwordEncoder(passwordEncoder.getObject());
+    }
+    @Override
+    protected void configure(HttpSecurity http) throws Exception {
+        JwtFilter jwtFilter = new JwtFilter(jwtUtils, authMetrics, jwtCookieName, new RouteMatcher(PUBLIC_ROUTES));
+        ExpressionUrlAuthorizationConfigurer<HttpSecurity>.ExpressionInterceptUrlRegistry authorize = http
+        .addFilterBefore(jwtFilter,UsernamePasswordAuthenticationFilter.class)
+        .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+        .and()
+        .authorizeRequests();
+        for (Route route : PUBLIC_ROUTES)
+            authorize.antMatchers(route.getMethod(), route.getPattern()).permitAll();
+        authorize
+        .antMatchers(HttpMethod.POST, "/api/v1/users/import").hasAuthority("ADMIN")
+        .anyRequest().authenticated()
+        .and()
+        .csrf().disable();
+        http.headers().frameOptions().disable();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.manage_tasks.configuration;
+
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.utils.JwtUtils;
+import com.example.manage_tasks.utils.SigningKeyRegistry;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exits once the application is ready, after one token round trip so the verification path is loaded too (skipped on
+ * verify-only nodes). Used by the cds build profile to record the class-data-sharing archive.
+ */
+@Component
+@ConditionalOnProperty(name = "startup.training_run", havingValue = "true")
+@RequiredArgsConstructor
+public class StartupTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+    private final JwtUtils jwtUtils;
+    private final SigningKeyRegistry keyRegistry;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (keyRegistry.canSign()) {
+            User user = new User("training", "", "training@example.com");
+            user.setUserId(0L);
+            jwtUtils.verify(jwtUtils.generateToken(user));
+        }
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
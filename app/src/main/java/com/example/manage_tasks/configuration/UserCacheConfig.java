@@ -0,0 +1,59 @@
+package com.example.manage_tasks.configuration;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import com.example.manage_tasks.models.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnIssuer
+@ConditionalOnProperty(name = "users.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class UserCacheConfig {
+    private static final String[] REGIONS = { User.CACHE_REGION, User.EMAIL_CACHE_REGION };
+
+    @Bean(destroyMethod = "close")
+    public CacheManager userCacheManager(@Value("${users.cache.max_size:10000}") long maxSize,
+            @Value("${users.cache.ttl:600000}") long ttlMillis) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofMillis(ttlMillis).toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer userCacheHibernateProperties(CacheManager userCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, userCacheManager);
+        };
+    }
+
+    @Bean
+    public MeterBinder userCacheMetrics(CacheManager userCacheManager) {
+        return registry -> {
+            for (String region : REGIONS)
+                JCacheMetrics.monitor(registry, userCacheManager.getCache(region));
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.manage_tasks.controllers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.example.manage_tasks.utils.JsonWebKeys;
+import com.example.manage_tasks.utils.SigningKey;
+import com.example.manage_tasks.utils.SigningKeyRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    public static final String PATH = "/.well-known/jwks.json";
+    private final SigningKeyRegistry keyRegistry;
+    @Value("${jwt.keys.jwks_max_age:300}")
+    private long maxAgeSeconds;
+
+    @GetMapping(PATH)
+    public ResponseEntity<Map<String, Object>> jwks() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        for (SigningKey key : keyRegistry.publicKeys())
+            keys.add(JsonWebKeys.toJwk(key));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+}
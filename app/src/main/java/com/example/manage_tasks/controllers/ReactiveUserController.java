@@ -0,0 +1,82 @@
+package com.example.manage_tasks.controllers;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import com.example.manage_tasks.configuration.ConditionalOnIssuer;
+import com.example.manage_tasks.dto.UserDto;
+import com.example.manage_tasks.exceptions.LoginRateLimitedException;
+import com.example.manage_tasks.services.ReactiveUserService;
+import com.example.manage_tasks.utils.LoginRateLimiter;
+import com.example.manage_tasks.validators.EmailValidator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnIssuer
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/users")
+public class ReactiveUserController {
+    private final ReactiveUserService userService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final EmailValidator emailValidator;
+    @Value("${jwt.cookie_name}")
+    private String jwtCookieName;
+    @Value("${jwt.time_delta}")
+    private Long jwtCookieMaxAge;
+
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<Void>> signup(@RequestBody UserDto userDto) {
+        return userService.signup(userDto)
+                .map(token -> tokenResponse(token, HttpStatus.CREATED))
+                .defaultIfEmpty(ResponseEntity.badRequest().build());
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<Void>> login(@RequestBody UserDto userDto, ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        String ip = remote == null || remote.getAddress() == null ? "" : remote.getAddress().getHostAddress();
+        long wait = loginRateLimiter.tryAcquire(ip, emailValidator.normalize(userDto.getEmail()));
+        if (wait != LoginRateLimiter.ALLOWED)
+            return Mono.error(new LoginRateLimitedException(wait));
+        return userService.login(userDto)
+                .map(token -> tokenResponse(token, HttpStatus.OK))
+                .defaultIfEmpty(ResponseEntity.badRequest().build());
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logout(@CookieValue(name = "${jwt.cookie_name}", required = false) String jwt) {
+        return userService.logout(jwt)
+                .then(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.NO_CONTENT)
+                        .header(HttpHeaders.SET_COOKIE, accessCookie("", Duration.ZERO).toString())
+                        .<Void>build()));
+    }
+
+    private ResponseEntity<Void> tokenResponse(String token, HttpStatus status) {
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.SET_COOKIE, accessCookie(token, Duration.ofMillis(jwtCookieMaxAge)).toString())
+                .build();
+    }
+
+    private ResponseCookie accessCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(jwtCookieName, value)
+                .httpOnly(true)
+                .maxAge(maxAge)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.manage_tasks.controllers;
+
+import com.example.manage_tasks.exceptions.HashingRejectedException;
+import com.example.manage_tasks.exceptions.InvalidImportException;
+import com.example.manage_tasks.exceptions.LoginRateLimitedException;
+import com.example.manage_tasks.exceptions.UserAlreadyExistsException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class RestExceptionHandler {
+    @Value("${hashing.retry_after:1}")
+    private String hashingRetryAfter;
+
+    @ExceptionHandler(HashingRejectedException.class)
+    public ResponseEntity<Void> hashingRejected() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, hashingRetryAfter)
+                .build();
+    }
+
+    @ExceptionHandler(LoginRateLimitedException.class)
+    public ResponseEntity<Void> loginRateLimited(LoginRateLimitedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf((e.getRetryAfterMillis() + 999) / 1000))
+                .build();
+    }
+
+    @ExceptionHandler(UserAlreadyExistsException.class)
+    public ResponseEntity<Void> userAlreadyExists() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<String> invalidImport(InvalidImportException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.manage_tasks.controllers;
+
+import com.example.manage_tasks.dto.CurrentUser;
+import com.example.manage_tasks.models.TokenPrincipal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// answered from the verified token alone, so issuer and verifier nodes serve it on both web stacks
+@RestController
+public class SessionController {
+    public static final String PATH = "/api/v1/users/me";
+
+    @GetMapping(PATH)
+    public ResponseEntity<CurrentUser> me(@AuthenticationPrincipal TokenPrincipal principal) {
+        if (principal == null)
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        return ResponseEntity.ok(
+                new CurrentUser(principal.getUserId(), principal.getEmail(), principal.getAuthoritySet().getRoles()));
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.manage_tasks.controllers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javax.servlet.http.HttpServletRequest;
+
+import com.example.manage_tasks.configuration.ConditionalOnIssuer;
+import com.example.manage_tasks.dto.ImportSummary;
+import com.example.manage_tasks.dto.TokenPair;
+import com.example.manage_tasks.dto.UserDto;
+import com.example.manage_tasks.exceptions.LoginRateLimitedException;
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.example.manage_tasks.services.UserImportService;
+import com.example.manage_tasks.services.UserService;
+import com.example.manage_tasks.utils.LoginRateLimiter;
+import com.example.manage_tasks.validators.EmailValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreFilter;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@ConditionalOnIssuer
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/users")
+public class UserController {
+    private static final String REFRESH_PATH = "/api/v1/users";
+    private static final MediaType NDJSON_TYPE = MediaType.parseMediaType(UserImportService.NDJSON);
+    private static final int IMPORT_FLUSH_CHARS = 8192;
+    private final UserService userService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+    private final LoginRateLimiter loginRateLimiter;
+    private final EmailValidator emailValidator;
+    @Qualifier("applicationTaskExecutor")
+    private final Executor blockingExecutor;
+    @Value("${jwt.cookie_name}")
+    private String jwtCookieName;
+    @Value("${jwt.time_delta}")
+    private Long jwtCookieMaxAge;
+    @Value("${jwt.refresh_cookie_name:refresh_token}")
+    private String refreshCookieName;
+    @Value("${jwt.refresh_time_delta:1209600000}")
+    private long refreshTimeDelta;
+    @Value("${import.timeout:3600000}")
+    private long importTimeout;
+
+    @PostMapping("/signup")
+    @PreFilter("hasRole('NONE')")
+    public CompletableFuture<ResponseEntity<Void>> signup(@RequestBody UserDto userDto) {
+        return userService.signup(userDto).thenApply(tokens -> tokenResponse(tokens, HttpStatus.CREATED));
+    }
+
+    @PostMapping("/login")
+    @PreFilter("hasRole('NONE')")
+    public CompletableFuture<ResponseEntity<Void>> login(@RequestBody UserDto userDto, HttpServletRequest request) {
+        long wait = loginRateLimiter.tryAcquire(request.getRemoteAddr(), emailValidator.normalize(userDto.getEmail()));
+        if (wait != LoginRateLimiter.ALLOWED)
+            throw new LoginRateLimitedException(wait);
+        return userService.login(userDto).thenApply(tokens -> tokenResponse(tokens, HttpStatus.OK));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<Void> refresh(
+            @CookieValue(name = "${jwt.refresh_cookie_name:refresh_token}", required = false) String refreshToken) {
+        TokenPair tokens = userService.refresh(refreshToken);
+        if (tokens == null)
+            return clearCookieResponse(HttpStatus.UNAUTHORIZED);
+        return tokenResponse(tokens, HttpStatus.OK);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@CookieValue(name = "${jwt.cookie_name}", required = false) String jwt,
+            @CookieValue(name = "${jwt.refresh_cookie_name:refresh_token}", required = false) String refreshToken) {
+        userService.logout(jwt, refreshToken);
+        return clearCookieResponse(HttpStatus.NO_CONTENT);
+    }
+
+    @PostMapping(path = "/import", consumes = { UserImportService.NDJSON, UserImportService.CSV })
+    public ResponseEntity<ResponseBodyEmitter> importUsers(InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(name = "skip", defaultValue = "0") long skip) throws IOException {
+        boolean csv = contentType.isCompatibleWith(MediaType.parseMediaType(UserImportService.CSV));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        // a bad header is the caller's mistake, answer 400 before the 200 of the stream is committed
+        int[] columns = csv ? userImportService.readCsvHeader(reader) : null;
+        // imports outlive the container's default async timeout, so this request gets its own
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(importTimeout);
+        blockingExecutor.execute(() -> {
+            StringBuilder pending = new StringBuilder();
+            try {
+                ImportSummary summary = userImportService.importUsers(reader, columns, skip, result -> {
+                    appendLine(pending, result);
+                    if (pending.length() >= IMPORT_FLUSH_CHARS)
+                        send(emitter, pending);
+                });
+                appendLine(pending, summary);
+                send(emitter, pending);
+                emitter.complete();
+            } catch (IOException | RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(NDJSON_TYPE)
+                .body(emitter);
+    }
+
+    private void appendLine(StringBuilder pending, Object value) {
+        try {
+            pending.append(objectMapper.writeValueAsString(value)).append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void send(ResponseBodyEmitter emitter, StringBuilder pending) {
+        try {
+            emitter.send(pending.toString(), NDJSON_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pending.setLength(0);
+    }
+
+    @PostMapping("/revoke-all")
+    public ResponseEntity<Void> revokeAll(@AuthenticationPrincipal TokenPrincipal principal) {
+        if (!userService.revokeAll(principal))
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        return clearCookieResponse(HttpStatus.NO_CONTENT);
+    }
+
+    private ResponseEntity<Void> clearCookieResponse(HttpStatus status) {
+        return ResponseEntity
+                .status(status)
+                .header(HttpHeaders.SET_COOKIE, accessCookie("", Duration.ZERO).toString())
+                .header(HttpHeaders.SET_COOKIE, refreshCookie("", Duration.ZERO).toString())
+                .build();
+    }
+
+    private ResponseEntity<Void> tokenResponse(TokenPair tokens, HttpStatus status) {
+        if (tokens == null)
+            return ResponseEntity.badRequest().build();
+        return ResponseEntity
+                .status(status)
+                .header(HttpHeaders.SET_COOKIE, accessCookie(tokens.getAccessToken(), Duration.ofMillis(jwtCookieMaxAge)).toString())
+                .header(HttpHeaders.SET_COOKIE,
+                        refreshCookie(tokens.getRefreshToken(), Duration.ofMillis(refreshTimeDelta)).toString())
+                .build();
+    }
+
+    private ResponseCookie accessCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(jwtCookieName, value)
+                .httpOnly(true)
+                .maxAge(maxAge)
+                .build();
+    }
+
+    private ResponseCookie refreshCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(refreshCookieName, value)
+                .httpOnly(true)
+                .path(REFRESH_PATH)
+                .maxAge(maxAge)
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.manage_tasks.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CurrentUser {
+    private Long userId;
+    private String email;
+    private String roles;
+}
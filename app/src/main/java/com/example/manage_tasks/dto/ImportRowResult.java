@@ -0,0 +1,19 @@
+package com.example.manage_tasks.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ImportRowResult {
+    public enum Status {
+        IMPORTED, INVALID, DUPLICATE
+    }
+
+    private long line;
+    private String email;
+    private Status status;
+    private String reason;
+}
@@ -0,0 +1,16 @@
+package com.example.manage_tasks.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Data
+public class ImportSummary {
+    private long imported;
+    private long invalid;
+    private long duplicates;
+    private long lastCommittedLine;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private String error;
+}
@@ -0,0 +1,13 @@
+package com.example.manage_tasks.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class TokenPair {
+    private String accessToken;
+    private String refreshToken;
+}
@@ -0,0 +1,7 @@
+package com.example.manage_tasks.exceptions;
+
+public class HashingRejectedException extends RuntimeException {
+    public HashingRejectedException() {
+        super("password hashing queue is full", null, false, false);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.manage_tasks.exceptions;
+
+public class InvalidImportException extends RuntimeException {
+    public InvalidImportException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.manage_tasks.exceptions;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+
+public class InvalidTokenException extends JwtException {
+    public enum Reason {
+        OVERSIZED, MALFORMED, EXPIRED, SIGNATURE, REVOKED, INVALID;
+
+        private final String tag = name().toLowerCase();
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private static final InvalidTokenException[] INSTANCES = new InvalidTokenException[Reason.values().length];
+    static {
+        for (Reason reason : Reason.values())
+            INSTANCES[reason.ordinal()] = new InvalidTokenException(reason);
+    }
+    private final Reason reason;
+
+    private InvalidTokenException(Reason reason) {
+        super("token rejected: " + reason.tag());
+        this.reason = reason;
+    }
+
+    public static InvalidTokenException of(Reason reason) {
+        return INSTANCES[reason.ordinal()];
+    }
+
+    public static InvalidTokenException from(RuntimeException e) {
+        if (e instanceof InvalidTokenException)
+            return (InvalidTokenException) e;
+        if (e instanceof TokenRevokedException)
+            return of(Reason.REVOKED);
+        if (e instanceof ExpiredJwtException)
+            return of(Reason.EXPIRED);
+        if (e instanceof SignatureException)
+            return of(Reason.SIGNATURE);
+        if (e instanceof MalformedJwtException)
+            return of(Reason.MALFORMED);
+        return of(Reason.INVALID);
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.manage_tasks.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class LoginRateLimitedException extends RuntimeException {
+    private final long retryAfterMillis;
+
+    public LoginRateLimitedException(long retryAfterMillis) {
+        super("too many login attempts", null, false, false);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
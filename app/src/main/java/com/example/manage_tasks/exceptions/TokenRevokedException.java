@@ -0,0 +1,14 @@
+package com.example.manage_tasks.exceptions;
+
+import io.jsonwebtoken.JwtException;
+
+public class TokenRevokedException extends JwtException {
+    public TokenRevokedException() {
+        super("token has been revoked");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
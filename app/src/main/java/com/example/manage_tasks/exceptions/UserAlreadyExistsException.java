@@ -0,0 +1,23 @@
+package com.example.manage_tasks.exceptions;
+
+import java.util.Locale;
+
+import com.example.manage_tasks.models.User;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+public class UserAlreadyExistsException extends RuntimeException {
+    public UserAlreadyExistsException() {
+        super("a user with this email already exists", null, false, false);
+    }
+
+    // only the email constraint means a duplicate user; other integrity errors are bugs and must surface
+    public static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(User.EMAIL_CONSTRAINT))
+                return true;
+        }
+        return false;
+    }
+}
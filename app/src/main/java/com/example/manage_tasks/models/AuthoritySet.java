@@ -0,0 +1,22 @@
+package com.example.manage_tasks.models;
+
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import lombok.Value;
+
+@Value
+public class AuthoritySet {
+    String roles;
+    List<GrantedAuthority> authorities;
+    long bits;
+
+    public boolean contains(long roleBit) {
+        return (bits & roleBit) != 0;
+    }
+
+    public boolean containsAll(AuthoritySet other) {
+        return (bits & other.bits) == other.bits;
+    }
+}
@@ -1,10 +1,10 @@
 package com.example.manage_tasks.models;
 
-import java.util.Arrays;
 import java.util.Collection;
 
+import com.example.manage_tasks.utils.AuthorityRegistry;
+
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import lombok.AllArgsConstructor;
@@ -14,9 +14,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Arrays.stream(user.getRoles().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .toList();
+        return AuthorityRegistry.of(user.getRoles()).getAuthorities();
     }
 
     @Override
@@ -0,0 +1,35 @@
+package com.example.manage_tasks.models;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "refresh_token_tbl", indexes = { @Index(columnList = "familyId"), @Index(columnList = "userId") })
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(unique = true, nullable = false)
+    private String tokenHash;
+    @Column(nullable = false)
+    private String familyId;
+    private Long userId;
+    private Instant issuedAt;
+    private Instant expiresAt;
+    private boolean used;
+    private boolean revoked;
+}
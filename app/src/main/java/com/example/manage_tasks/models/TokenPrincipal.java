@@ -0,0 +1,37 @@
+package com.example.manage_tasks.models;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import lombok.Value;
+
+/**
+ * Caller identity taken from a verified token. Compact tokens only carry the user id and roles, so email and
+ * username are null for them and {@link #getName()} falls back to the id.
+ */
+@Value
+public class TokenPrincipal implements Principal {
+    Long userId;
+    long tokenId;
+    String email;
+    String username;
+    AuthoritySet authoritySet;
+    Instant issuedAt;
+    Instant expiresAt;
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authoritySet.getAuthorities();
+    }
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+
+    @Override
+    public String getName() {
+        return email != null ? email : String.valueOf(userId);
+    }
+}
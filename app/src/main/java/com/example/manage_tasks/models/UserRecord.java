@@ -0,0 +1,29 @@
+package com.example.manage_tasks.models;
+
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Table("usr_tbl")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class UserRecord {
+    @Id
+    private Long userId;
+    private String name;
+    private String password;
+    private String email;
+    private LocalDate createdAt;
+    private LocalDate updatedAt;
+    private String roles = "NONE";
+
+    public User toUser() {
+        return new User(userId, name, password, email, createdAt, updatedAt, roles);
+    }
+}
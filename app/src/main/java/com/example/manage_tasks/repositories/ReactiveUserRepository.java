@@ -0,0 +1,15 @@
+package com.example.manage_tasks.repositories;
+
+import com.example.manage_tasks.models.UserRecord;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveUserRepository extends R2dbcRepository<UserRecord, Long>, ReactiveUserRepositoryCustom {
+    Mono<UserRecord> findByEmail(String email);
+
+    Mono<Boolean> existsByEmail(String email);
+}
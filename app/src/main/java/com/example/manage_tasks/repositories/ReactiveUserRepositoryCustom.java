@@ -0,0 +1,9 @@
+package com.example.manage_tasks.repositories;
+
+import com.example.manage_tasks.models.UserRecord;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepositoryCustom {
+    Mono<UserRecord> insert(UserRecord user);
+}
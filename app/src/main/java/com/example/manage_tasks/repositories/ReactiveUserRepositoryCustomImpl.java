@@ -0,0 +1,40 @@
+package com.example.manage_tasks.repositories;
+
+import java.time.LocalDate;
+
+import com.example.manage_tasks.models.UserRecord;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+
+import reactor.core.publisher.Mono;
+
+public class ReactiveUserRepositoryCustomImpl implements ReactiveUserRepositoryCustom {
+    private final R2dbcEntityTemplate template;
+    private final String nextIdSql;
+
+    public ReactiveUserRepositoryCustomImpl(R2dbcEntityTemplate template) {
+        this.template = template;
+        // usr_seq steps by 50 and Hibernate's pooled optimizer reads each value V as the block V-49..V.
+        // Taking V here claims that whole block, so the JPA side never hands out the same id. The one exception
+        // is a fresh sequence: Hibernate reads 1 and then uses everything up to its second value, so a
+        // reactive insert between those two reads could collide. Postgres migration V3 starts past 1.
+        this.nextIdSql = "H2".equals(template.getDatabaseClient().getConnectionFactory().getMetadata().getName())
+                ? "select next value for usr_seq"
+                : "select nextval('usr_seq')";
+    }
+
+    @Override
+    public Mono<UserRecord> insert(UserRecord user) {
+        return template.getDatabaseClient()
+                .sql(nextIdSql)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> {
+                    LocalDate today = LocalDate.now();
+                    user.setUserId(id);
+                    user.setCreatedAt(today);
+                    user.setUpdatedAt(today);
+                    return template.insert(user);
+                });
+    }
+}
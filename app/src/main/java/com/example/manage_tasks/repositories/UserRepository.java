@@ -0,0 +1,17 @@
+package com.example.manage_tasks.repositories;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.example.manage_tasks.models.User;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+    @Query("select u.email from User u where u.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+}
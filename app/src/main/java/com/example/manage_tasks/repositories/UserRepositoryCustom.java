@@ -1,15 +1,14 @@
 package com.example.manage_tasks.repositories;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.example.manage_tasks.models.User;
 
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepositoryCustom {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    void insertAll(List<User> users);
+}
@@ -0,0 +1,42 @@
+package com.example.manage_tasks.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import com.example.manage_tasks.models.User;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        if (email == null)
+            return Optional.empty();
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(email);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<User> users) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setCacheMode(CacheMode.GET);
+        for (User user : users)
+            session.persist(user);
+        session.flush();
+        session.clear();
+    }
+}
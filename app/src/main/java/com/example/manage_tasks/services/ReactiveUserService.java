@@ -0,0 +1,99 @@
+package com.example.manage_tasks.services;
+
+import com.example.manage_tasks.configuration.ConditionalOnIssuer;
+import com.example.manage_tasks.dto.UserDto;
+import com.example.manage_tasks.exceptions.UserAlreadyExistsException;
+import com.example.manage_tasks.exceptions.UserNotFoundException;
+import com.example.manage_tasks.models.UserRecord;
+import com.example.manage_tasks.repositories.ReactiveUserRepository;
+import com.example.manage_tasks.utils.AuthMetrics;
+import com.example.manage_tasks.utils.JwtUtils;
+import com.example.manage_tasks.validators.EmailValidator;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import io.jsonwebtoken.JwtException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Service
+@ConditionalOnIssuer
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveUserService {
+    private final ReactiveUserRepository repository;
+    private final JwtUtils jwtUtils;
+    private final PasswordHashingService passwordHasher;
+    private final EmailValidator emailValidator;
+    private final AuthMetrics metrics;
+
+    public Mono<String> signup(UserDto userDto) {
+        if (!emailValidator.test(userDto.getEmail()))
+            return Mono.empty();
+        String email = emailValidator.normalize(userDto.getEmail());
+        long start = metrics.start();
+        return Mono.fromFuture(() -> passwordHasher.encode(userDto.getPassword()))
+                .flatMap(hash -> {
+                    UserRecord user = new UserRecord();
+                    user.setEmail(email);
+                    user.setPassword(hash);
+                    user.setName(userDto.getUsername());
+                    return repository.insert(user);
+                })
+                .onErrorMap(e -> e instanceof DataIntegrityViolationException
+                        && UserAlreadyExistsException.isDuplicateEmail((DataIntegrityViolationException) e),
+                        e -> new UserAlreadyExistsException())
+                .map(user -> jwtUtils.generateToken(user.toUser()))
+                .doFinally(signal -> metrics.stop(metrics.getSignupTimer(), start));
+    }
+
+    public Mono<String> login(UserDto userDto) {
+        if (!emailValidator.test(userDto.getEmail()))
+            return Mono.empty();
+        long start = metrics.start();
+        return repository.findByEmail(emailValidator.normalize(userDto.getEmail()))
+                .switchIfEmpty(Mono.error(UserNotFoundException::new))
+                .flatMap(user -> Mono.fromFuture(() -> passwordHasher.matches(userDto.getPassword(), user.getPassword()))
+                        .filter(Boolean::booleanValue)
+                        .map(matches -> {
+                            if (passwordHasher.needsUpgrade(user.getPassword()))
+                                upgradePassword(user, userDto.getPassword());
+                            return jwtUtils.generateToken(user.toUser());
+                        }))
+                .doFinally(signal -> metrics.stop(metrics.getLoginTimer(), start));
+    }
+
+    // revoking may write the denylist store, so it stays off the event loop
+    public Mono<Void> logout(String jwt) {
+        if (jwt == null)
+            return Mono.empty();
+        return Mono.<Void>fromRunnable(() -> {
+            try {
+                jwtUtils.revoke(jwt);
+            } catch (JwtException e) {
+                // already expired, revoked or never valid
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void upgradePassword(UserRecord user, String rawPassword) {
+        Mono.fromFuture(() -> passwordHasher.encode(rawPassword))
+                .flatMap(hash -> {
+                    user.setPassword(hash);
+                    return repository.save(user);
+                })
+                .doOnError(e -> {
+                    // the login already succeeded; the next one retries the upgrade
+                    log.warn("Could not rehash password of user {}", user.getUserId(), e);
+                    metrics.getRehashFailures().increment();
+                })
+                .onErrorResume(e -> Mono.empty())
+                .subscribe();
+    }
+}
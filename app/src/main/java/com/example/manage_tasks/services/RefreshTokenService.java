@@ -0,0 +1,118 @@
+package com.example.manage_tasks.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.example.manage_tasks.configuration.ConditionalOnIssuer;
+import com.example.manage_tasks.dto.TokenPair;
+import com.example.manage_tasks.models.RefreshToken;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.repositories.RefreshTokenRepository;
+import com.example.manage_tasks.repositories.UserRepository;
+import com.example.manage_tasks.utils.JwtUtils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@ConditionalOnIssuer
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private final RefreshTokenRepository repository;
+    private final UserRepository userRepository;
+    private final JwtUtils jwtUtils;
+    @Value("${jwt.refresh_time_delta:1209600000}")
+    private long refreshTimeDelta;
+
+    @Transactional
+    public String issue(User user) {
+        return issue(user.getUserId(), UUID.randomUUID().toString());
+    }
+
+    @Transactional
+    public TokenPair rotate(String rawToken) {
+        if (rawToken == null)
+            return null;
+        Optional<RefreshToken> stored = repository.findByTokenHash(hash(rawToken));
+        if (stored.isEmpty())
+            return null;
+        RefreshToken token = stored.get();
+        if (token.isRevoked() || token.getExpiresAt().isBefore(Instant.now()))
+            return null;
+        // rows from before issued_at existed count as issued at the epoch, so any revoke-all covers them
+        Instant issuedAt = token.getIssuedAt() == null ? Instant.EPOCH : token.getIssuedAt();
+        if (token.getUserId() != null && jwtUtils.isRevokedBefore(token.getUserId(), issuedAt))
+            return null;
+        if (repository.markUsed(token.getId()) == 0) {
+            log.warn("Refresh token reuse detected for user {}, revoking family {}", token.getUserId(),
+                    token.getFamilyId());
+            revokeChain(token);
+            return null;
+        }
+        Optional<User> user = userRepository.findById(token.getUserId());
+        if (user.isEmpty())
+            return null;
+        return new TokenPair(jwtUtils.generateToken(user.get()), issue(token.getUserId(), token.getFamilyId()));
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        if (rawToken == null)
+            return;
+        repository.findByTokenHash(hash(rawToken)).ifPresent(token -> repository.revokeFamily(token.getFamilyId()));
+    }
+
+    @Transactional
+    public void revokeAll(long userId) {
+        repository.revokeUser(userId);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.refresh_cleanup_interval:3600000}")
+    public void deleteExpired() {
+        repository.deleteExpired(Instant.now());
+    }
+
+    private String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(hash(rawToken));
+        token.setFamilyId(familyId);
+        Instant now = Instant.now();
+        token.setUserId(userId);
+        token.setIssuedAt(now);
+        token.setExpiresAt(now.plusMillis(refreshTimeDelta));
+        repository.save(token);
+        return rawToken;
+    }
+
+    private void revokeChain(RefreshToken token) {
+        repository.revokeFamily(token.getFamilyId());
+        if (token.getUserId() != null)
+            jwtUtils.revokeAllBefore(token.getUserId(), Instant.now());
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.manage_tasks.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import com.example.manage_tasks.configuration.ConditionalOnIssuer;
+import com.example.manage_tasks.dto.ImportRowResult;
+import com.example.manage_tasks.dto.ImportRowResult.Status;
+import com.example.manage_tasks.dto.ImportSummary;
+import com.example.manage_tasks.dto.UserDto;
+import com.example.manage_tasks.exceptions.InvalidImportException;
+import com.example.manage_tasks.exceptions.UserAlreadyExistsException;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.repositories.UserRepository;
+import com.example.manage_tasks.validators.EmailValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@ConditionalOnIssuer
+public class UserImportService {
+    public static final String CSV = "text/csv";
+    public static final String NDJSON = "application/x-ndjson";
+    private static final String[] CSV_COLUMNS = { "username", "email", "password" };
+    private final UserRepository repository;
+    private final PasswordEncoder passwordEncoder;
+    private final EmailValidator emailValidator;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool hashingPool;
+    private final int batchSize;
+
+    public UserImportService(UserRepository repository, PasswordEncoder passwordEncoder,
+            EmailValidator emailValidator, ObjectMapper objectMapper,
+            @Value("${import.batch_size:500}") int batchSize,
+            @Value("${import.parallelism:0}") int parallelism) {
+        this.repository = repository;
+        this.passwordEncoder = passwordEncoder;
+        this.emailValidator = emailValidator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.hashingPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public ImportSummary importUsers(BufferedReader body, boolean csv, long skip, Consumer<ImportRowResult> results)
+            throws IOException {
+        return importUsers(body, csv ? readCsvHeader(body) : null, skip, results);
+    }
+
+    // csvColumns comes from readCsvHeader, null for ndjson
+    public ImportSummary importUsers(BufferedReader body, int[] csvColumns, long skip,
+            Consumer<ImportRowResult> results) throws IOException {
+        long start = System.nanoTime();
+        ImportSummary summary = new ImportSummary();
+        summary.setLastCommittedLine(skip);
+        List<Row> batch = new ArrayList<>(batchSize);
+        long line = 0;
+        try {
+            for (String text = body.readLine(); text != null; text = body.readLine()) {
+                line++;
+                if (line <= skip || text.isBlank())
+                    continue;
+                batch.add(csvColumns != null ? csvRow(line, text, csvColumns) : jsonRow(line, text));
+                if (batch.size() == batchSize) {
+                    importBatch(batch, results, summary);
+                    summary.setLastCommittedLine(line);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty())
+                importBatch(batch, results, summary);
+            summary.setLastCommittedLine(Math.max(line, skip));
+        } catch (RuntimeException e) {
+            log.error("User import stopped after line {}", summary.getLastCommittedLine(), e);
+            summary.setError(e.getMessage());
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long rows = summary.getImported() + summary.getInvalid() + summary.getDuplicates();
+        summary.setElapsedMillis(elapsedNanos / 1_000_000);
+        summary.setRowsPerSecond(elapsedNanos == 0 ? 0 : rows * 1e9 / elapsedNanos);
+        log.info("Imported {} users ({} invalid, {} duplicates) in {} ms, {} rows/s", summary.getImported(),
+                summary.getInvalid(), summary.getDuplicates(), summary.getElapsedMillis(),
+                Math.round(summary.getRowsPerSecond()));
+        return summary;
+    }
+
+    private void importBatch(List<Row> batch, Consumer<ImportRowResult> results, ImportSummary summary) {
+        List<ImportRowResult> batchResults = new ArrayList<>(batch.size());
+        List<Row> candidates = new ArrayList<>(batch.size());
+        Set<String> emails = new HashSet<>();
+        for (Row row : batch) {
+            if (row.reason != null)
+                batchResults.add(new ImportRowResult(row.line, row.email, Status.INVALID, row.reason));
+            else if (!emails.add(row.email))
+                batchResults.add(new ImportRowResult(row.line, row.email, Status.DUPLICATE, null));
+            else
+                candidates.add(row);
+        }
+        Set<String> existing = emails.isEmpty() ? Set.of() : repository.findExistingEmails(emails);
+        List<Row> accepted = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            if (existing.contains(row.email))
+                batchResults.add(new ImportRowResult(row.line, row.email, Status.DUPLICATE, null));
+            else
+                accepted.add(row);
+        }
+        List<String> hashes = hashingPool.submit(() -> accepted.parallelStream()
+                .map(row -> passwordEncoder.encode(row.password))
+                .collect(Collectors.toList())).join();
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++)
+            users.add(accepted.get(i).toUser(hashes.get(i)));
+        try {
+            repository.insertAll(users);
+            for (Row row : accepted)
+                batchResults.add(new ImportRowResult(row.line, row.email, Status.IMPORTED, null));
+        } catch (DataIntegrityViolationException e) {
+            for (int i = 0; i < accepted.size(); i++)
+                batchResults.add(insertOne(accepted.get(i), hashes.get(i)));
+        }
+        batchResults.sort(Comparator.comparingLong(ImportRowResult::getLine));
+        for (ImportRowResult result : batchResults) {
+            if (result.getStatus() == Status.IMPORTED)
+                summary.setImported(summary.getImported() + 1);
+            else if (result.getStatus() == Status.DUPLICATE)
+                summary.setDuplicates(summary.getDuplicates() + 1);
+            else
+                summary.setInvalid(summary.getInvalid() + 1);
+            results.accept(result);
+        }
+    }
+
+    private ImportRowResult insertOne(Row row, String hash) {
+        try {
+            repository.saveAndFlush(row.toUser(hash));
+            return new ImportRowResult(row.line, row.email, Status.IMPORTED, null);
+        } catch (DataIntegrityViolationException e) {
+            if (!UserAlreadyExistsException.isDuplicateEmail(e))
+                return new ImportRowResult(row.line, row.email, Status.INVALID, "rejected by the database");
+            return new ImportRowResult(row.line, row.email, Status.DUPLICATE, null);
+        }
+    }
+
+    private Row jsonRow(long line, String text) {
+        try {
+            return row(line, objectMapper.readValue(text, UserDto.class));
+        } catch (JsonProcessingException e) {
+            return new Row(line, null, null, null, "malformed json");
+        }
+    }
+
+    private Row csvRow(long line, String text, int[] columns) {
+        List<String> fields = splitCsv(text);
+        if (fields == null)
+            return new Row(line, null, null, null, "malformed csv");
+        String[] values = new String[CSV_COLUMNS.length];
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] >= 0 && i < fields.size())
+                values[columns[i]] = fields.get(i);
+        }
+        return row(line, new UserDto(values[0], values[2], values[1]));
+    }
+
+    private Row row(long line, UserDto userDto) {
+        if (!emailValidator.test(userDto.getEmail()))
+            return new Row(line, userDto.getEmail(), null, null, "invalid email");
+        if (userDto.getPassword() == null || userDto.getPassword().isEmpty())
+            return new Row(line, userDto.getEmail(), null, null, "missing password");
+        return new Row(line, emailValidator.normalize(userDto.getEmail()), userDto.getUsername(),
+                userDto.getPassword(), null);
+    }
+
+    public int[] readCsvHeader(BufferedReader body) throws IOException {
+        String header = body.readLine();
+        List<String> names = header == null ? null : splitCsv(header);
+        if (names == null)
+            throw new InvalidImportException("csv import needs a header row");
+        int[] columns = new int[names.size()];
+        boolean hasEmail = false;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = -1;
+            for (int c = 0; c < CSV_COLUMNS.length; c++) {
+                if (CSV_COLUMNS[c].equalsIgnoreCase(names.get(i).strip()))
+                    columns[i] = c;
+            }
+            hasEmail |= columns[i] == 1;
+        }
+        if (!hasEmail)
+            throw new InvalidImportException("csv header has no email column");
+        return columns;
+    }
+
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"')
+                    field.append(c);
+                else if (i + 1 < text.length() && text.charAt(i + 1) == '"')
+                    field.append(text.charAt(++i));
+                else
+                    quoted = false;
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted)
+            return null;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdown();
+    }
+
+    private static final class Row {
+        private final long line;
+        private final String email;
+        private final String username;
+        private final String password;
+        private final String reason;
+
+        private Row(long line, String email, String username, String password, String reason) {
+            this.line = line;
+            this.email = email;
+            this.username = username;
+            this.password = password;
+            this.reason = reason;
+        }
+
+        private User toUser(String hash) {
+            return new User(username, hash, email);
+        }
+    }
+}
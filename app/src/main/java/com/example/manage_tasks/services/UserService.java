@@ -0,0 +1,122 @@
+package com.example.manage_tasks.services;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.example.manage_tasks.configuration.ConditionalOnIssuer;
+import com.example.manage_tasks.dto.TokenPair;
+import com.example.manage_tasks.dto.UserDto;
+import com.example.manage_tasks.exceptions.UserAlreadyExistsException;
+import com.example.manage_tasks.exceptions.UserNotFoundException;
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.repositories.UserRepository;
+import com.example.manage_tasks.utils.AuthMetrics;
+import com.example.manage_tasks.utils.JwtUtils;
+import com.example.manage_tasks.validators.EmailValidator;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import io.jsonwebtoken.JwtException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@ConditionalOnIssuer
+@RequiredArgsConstructor
+public class UserService {
+    private final UserRepository repository;
+    private final JwtUtils jwtUtils;
+    private final PasswordHashingService passwordHasher;
+    private final RefreshTokenService refreshTokenService;
+    private final EmailValidator emailValidator;
+    private final AuthMetrics metrics;
+    @Qualifier("applicationTaskExecutor")
+    private final Executor blockingExecutor;
+
+    public CompletableFuture<TokenPair> signup(UserDto userDto) {
+        if(!emailValidator.test(userDto.getEmail()))return CompletableFuture.completedFuture(null);
+        String email = emailValidator.normalize(userDto.getEmail());
+        long start = metrics.start();
+        return passwordHasher.encode(userDto.getPassword()).thenApplyAsync(hash -> {
+            User user = new User();
+            user.setEmail(email);
+            user.setPassword(hash);
+            user.setName(userDto.getUsername());
+            try {
+                repository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                if (!UserAlreadyExistsException.isDuplicateEmail(e))
+                    throw e;
+                throw new UserAlreadyExistsException();
+            }
+            return issueTokens(user);
+        }, blockingExecutor).whenComplete((jwt, e) -> metrics.stop(metrics.getSignupTimer(), start));
+    }
+
+    public CompletableFuture<TokenPair> login(UserDto userDto) {
+        if (!emailValidator.test(userDto.getEmail()))
+            return CompletableFuture.completedFuture(null);
+
+        String email = emailValidator.normalize(userDto.getEmail());
+        long start = metrics.start();
+        // the lookup blocks on JDBC too, so it leaves the request thread along with the hash check
+        return CompletableFuture
+                .supplyAsync(() -> repository.findByEmail(email).orElseThrow(UserNotFoundException::new), blockingExecutor)
+                .thenCompose(user -> passwordHasher.matches(userDto.getPassword(), user.getPassword())
+                        .thenApplyAsync(matches -> {
+                            if (!matches)
+                                return null;
+                            if (passwordHasher.needsUpgrade(user.getPassword()))
+                                upgradePassword(user, userDto.getPassword());
+                            return issueTokens(user);
+                        }, blockingExecutor))
+                .whenComplete((jwt, e) -> metrics.stop(metrics.getLoginTimer(), start));
+    }
+
+    public TokenPair refresh(String refreshToken) {
+        return refreshTokenService.rotate(refreshToken);
+    }
+
+    public void logout(String jwt, String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+        if (jwt == null)
+            return;
+        try {
+            jwtUtils.revoke(jwt);
+        } catch (JwtException e) {
+            // already expired, revoked or never valid
+        }
+    }
+
+    public boolean revokeAll(TokenPrincipal principal) {
+        if (principal == null || principal.getUserId() == null)
+            return false;
+        jwtUtils.revokeAllBefore(principal.getUserId(), Instant.now());
+        refreshTokenService.revokeAll(principal.getUserId());
+        return true;
+    }
+
+    private TokenPair issueTokens(User user) {
+        return new TokenPair(jwtUtils.generateToken(user), refreshTokenService.issue(user));
+    }
+
+    private void upgradePassword(User user, String rawPassword) {
+        passwordHasher.encode(rawPassword)
+                .thenAcceptAsync(hash -> {
+                    user.setPassword(hash);
+                    repository.save(user);
+                }, blockingExecutor)
+                .exceptionally(e -> {
+                    // the login already succeeded; the next one retries the upgrade
+                    log.warn("Could not rehash password of user {}", user.getUserId(), e);
+                    metrics.getRehashFailures().increment();
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.manage_tasks.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Component
+@Getter
+public class AuthMetrics {
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+    private final MeterRegistry registry;
+    private final double sampleRate;
+    private final Timer filterTimer;
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer loginTimer;
+    private final Timer signupTimer;
+    private final Counter authenticatedRequests;
+    private final Counter anonymousRequests;
+    private final Counter publicRequests;
+    private final Counter rehashFailures;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Counter> rateLimits = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry registry, @Value("${metrics.sample_rate:1.0}") double sampleRate) {
+        this.registry = registry;
+        this.sampleRate = sampleRate;
+        this.filterTimer = timer("auth.filter", "Time spent in JwtFilter per request");
+        this.verifyTimer = timer("auth.token.verify", "Token verification time, including cache lookups");
+        this.encodeTimer = timer("auth.password.encode", "Password hashing time on the hashing pool");
+        this.matchesTimer = timer("auth.password.matches", "Password matching time on the hashing pool");
+        this.loginTimer = timer("auth.login", "Login time from request to issued token");
+        this.signupTimer = timer("auth.signup", "Signup time from request to issued token");
+        this.authenticatedRequests = Counter.builder("auth.filter.requests")
+                .tag("outcome", "authenticated")
+                .register(registry);
+        this.anonymousRequests = Counter.builder("auth.filter.requests")
+                .tag("outcome", "anonymous")
+                .register(registry);
+        this.publicRequests = Counter.builder("auth.filter.requests")
+                .tag("outcome", "public")
+                .register(registry);
+        this.rehashFailures = Counter.builder("auth.password.rehash_failed")
+                .description("Logins whose password could not be rehashed to the current algorithm or cost")
+                .register(registry);
+    }
+
+    public long start() {
+        if (sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate))
+            return System.nanoTime();
+        return NOT_SAMPLED;
+    }
+
+    public void stop(Timer timer, long start) {
+        if (start != NOT_SAMPLED)
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    public void rejected(String reason) {
+        rejections.computeIfAbsent(reason, r -> Counter.builder("auth.token.rejected")
+                .tag("reason", r)
+                .register(registry))
+                .increment();
+    }
+
+    public void rateLimited(String key) {
+        rateLimits.computeIfAbsent(key, k -> Counter.builder("auth.login.rate_limited")
+                .tag("key", k)
+                .register(registry))
+                .increment();
+    }
+
+    private Timer timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.manage_tasks.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.example.manage_tasks.models.AuthoritySet;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public final class AuthorityRegistry {
+    private static final int MAX_ROLES = Long.SIZE;
+    private static final Map<String, Long> ROLE_BITS = new ConcurrentHashMap<>();
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+    private static final Map<String, AuthoritySet> SETS = new ConcurrentHashMap<>();
+    public static final AuthoritySet NONE = of("NONE");
+    // every user starts with NONE and the security rules check ADMIN
+    public static final AuthoritySet BUILT_IN = of("NONE,ADMIN");
+
+    private AuthorityRegistry() {
+    }
+
+    public static AuthoritySet of(String roles) {
+        if (roles == null)
+            return NONE;
+        AuthoritySet set = SETS.get(roles);
+        return set != null ? set : SETS.computeIfAbsent(roles, AuthorityRegistry::parse);
+    }
+
+    public static long bitOf(String role) {
+        Long bit = ROLE_BITS.get(role);
+        return bit != null ? bit : assignBit(role);
+    }
+
+    private static synchronized long assignBit(String role) {
+        Long bit = ROLE_BITS.get(role);
+        if (bit != null)
+            return bit;
+        if (ROLE_BITS.size() >= MAX_ROLES)
+            throw new IllegalStateException("more than " + MAX_ROLES + " distinct roles");
+        bit = 1L << ROLE_BITS.size();
+        ROLE_BITS.put(role, bit);
+        return bit;
+    }
+
+    private static AuthoritySet parse(String roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        long bits = 0;
+        for (String role : roles.split(",")) {
+            String name = role.strip();
+            if (name.isEmpty())
+                continue;
+            long bit = bitOf(name);
+            if ((bits & bit) != 0)
+                continue;
+            bits |= bit;
+            authorities.add(AUTHORITIES.computeIfAbsent(name, SimpleGrantedAuthority::new));
+        }
+        return new AuthoritySet(roles, List.copyOf(authorities), bits);
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.manage_tasks.utils;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.example.manage_tasks.exceptions.InvalidTokenException;
+import com.example.manage_tasks.exceptions.InvalidTokenException.Reason;
+import com.example.manage_tasks.models.AuthoritySet;
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.example.manage_tasks.models.User;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+
+@Component
+public class CompactTokenCodec {
+    private static final byte VERSION = 2;
+    private static final int BODY_LENGTH = 1 + 2 + 8 + 8 + 4 + 4;
+    private static final int TAG_LENGTH = 16;
+    private static final int TOKEN_LENGTH = BODY_LENGTH + TAG_LENGTH;
+    private static final int ENCODED_LENGTH = (TOKEN_LENGTH * 4 + 2) / 3;
+    private static final int EXPIRY_OFFSET = 1 + 2 + 8 + 8 + 4;
+    private static final byte[] BASE64_URL = new byte[128];
+    static {
+        Arrays.fill(BASE64_URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++)
+            BASE64_URL[alphabet.charAt(i)] = (byte) i;
+    }
+    private final SigningKeyRegistry keyRegistry;
+    private final String[] roles;
+    private final Map<String, Integer> roleIndexes = new HashMap<>();
+    private final Map<Long, AuthoritySet> authoritySets = new ConcurrentHashMap<>();
+
+    public CompactTokenCodec(SigningKeyRegistry keyRegistry, @Value("${jwt.compact.roles:NONE}") String[] roles) {
+        if (roles.length > Long.SIZE)
+            throw new IllegalArgumentException("at most " + Long.SIZE + " roles fit in a compact token");
+        this.keyRegistry = keyRegistry;
+        this.roles = roles;
+        for (int i = 0; i < roles.length; i++)
+            roleIndexes.put(roles[i].strip(), i);
+    }
+
+    public boolean isCompact(String token) {
+        return token.length() == ENCODED_LENGTH && token.indexOf('.') < 0;
+    }
+
+    public boolean canEncode(AuthoritySet authoritySet) {
+        for (GrantedAuthority authority : authoritySet.getAuthorities()) {
+            if (!roleIndexes.containsKey(authority.getAuthority()))
+                return false;
+        }
+        return true;
+    }
+
+    public long peekExpiry(String token) {
+        int version = decodedByte(token, 0);
+        if (version != VERSION)
+            throw InvalidTokenException.of(Reason.MALFORMED);
+        long expiresAt = 0;
+        for (int i = EXPIRY_OFFSET; i < EXPIRY_OFFSET + Integer.BYTES; i++)
+            expiresAt = (expiresAt << 8) | decodedByte(token, i);
+        return expiresAt;
+    }
+
+    public String encode(User user, Instant issuedAt, Instant expiresAt) {
+        if (user.getUserId() == null)
+            throw new IllegalArgumentException("compact tokens need a persisted user id");
+        long issuedBeforeExpiry = Math.max(expiresAt.getEpochSecond() * 1000 - issuedAt.toEpochMilli(), 0);
+        if (issuedBeforeExpiry > 0xFFFFFFFFL)
+            throw new IllegalArgumentException("compact tokens live at most 49 days");
+        SigningKey key = keyRegistry.active();
+        if (!key.getAlgorithm().isHmac())
+            throw new IllegalStateException("compact tokens need an HMAC active key");
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_LENGTH)
+                .put(VERSION)
+                .putShort(key.getCompactId())
+                .putLong(user.getUserId())
+                .putLong(roleBits(AuthorityRegistry.of(user.getRoles())))
+                .putInt((int) issuedBeforeExpiry)
+                .putInt((int) expiresAt.getEpochSecond());
+        buffer.put(key.mac(buffer.array(), BODY_LENGTH), 0, TAG_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public TokenPrincipal decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("compact token is not base64url");
+        }
+        if (bytes.length != TOKEN_LENGTH || bytes[0] != VERSION)
+            throw new MalformedJwtException("unsupported compact token layout");
+        short compactId = (short) (((bytes[1] & 0xFF) << 8) | (bytes[2] & 0xFF));
+        SigningKey key = keyRegistry.byCompactId(compactId);
+        if (!key.getAlgorithm().isHmac())
+            throw new SignatureException("compact tokens are only signed with HMAC keys");
+        if (!tagMatches(key.mac(bytes, BODY_LENGTH), bytes))
+            throw new SignatureException("compact token signature does not match");
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, BODY_LENGTH - 1);
+        buffer.getShort();
+        long userId = buffer.getLong();
+        long roleBits = buffer.getLong();
+        long issued = Integer.toUnsignedLong(buffer.getInt());
+        Instant expiresAt = Instant.ofEpochSecond(Integer.toUnsignedLong(buffer.getInt()));
+        Instant issuedAt = Instant.ofEpochMilli(expiresAt.toEpochMilli() - issued);
+        if (!expiresAt.isAfter(Instant.now()))
+            throw new ExpiredJwtException(null, null, "compact token expired at " + expiresAt);
+        return new TokenPrincipal(userId, tokenId(bytes), null, null, authoritySet(roleBits), issuedAt, expiresAt);
+    }
+
+    static int base64UrlValue(char c) {
+        return c < BASE64_URL.length ? BASE64_URL[c] : -1;
+    }
+
+    private static int decodedByte(String token, int index) {
+        int group = (index / 3) * 4;
+        int bits = 0;
+        for (int i = group; i < group + 4; i++) {
+            int value = base64UrlValue(token.charAt(i));
+            if (value < 0)
+                throw InvalidTokenException.of(Reason.MALFORMED);
+            bits = (bits << 6) | value;
+        }
+        return (bits >> (16 - 8 * (index % 3))) & 0xFF;
+    }
+
+    private static long tokenId(byte[] token) {
+        long id = 0;
+        for (int i = 0; i < Long.BYTES; i++)
+            id = (id << 8) | (token[BODY_LENGTH + i] & 0xFF);
+        return id;
+    }
+
+    private static boolean tagMatches(byte[] expected, byte[] token) {
+        int difference = 0;
+        for (int i = 0; i < TAG_LENGTH; i++)
+            difference |= expected[i] ^ token[BODY_LENGTH + i];
+        return difference == 0;
+    }
+
+    private long roleBits(AuthoritySet authoritySet) {
+        long bits = 0;
+        for (GrantedAuthority authority : authoritySet.getAuthorities()) {
+            Integer index = roleIndexes.get(authority.getAuthority());
+            if (index == null)
+                throw new IllegalArgumentException("role " + authority.getAuthority() + " is not in jwt.compact.roles");
+            bits |= 1L << index;
+        }
+        return bits;
+    }
+
+    private AuthoritySet authoritySet(long roleBits) {
+        AuthoritySet set = authoritySets.get(roleBits);
+        if (set != null)
+            return set;
+        StringJoiner joined = new StringJoiner(",");
+        for (int i = 0; i < roles.length; i++) {
+            if ((roleBits & (1L << i)) != 0)
+                joined.add(roles[i].strip());
+        }
+        return authoritySets.computeIfAbsent(roleBits, bits -> AuthorityRegistry.of(joined.toString()));
+    }
+}
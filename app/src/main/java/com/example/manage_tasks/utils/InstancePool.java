@@ -0,0 +1,35 @@
+package com.example.manage_tasks.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of reusable, non-thread-safe instances such as {@code Mac} or {@code MessageDigest}. Unlike a
+ * ThreadLocal it keeps its instances when every task runs on a fresh virtual thread.
+ */
+public class InstancePool<T> {
+    private final ArrayBlockingQueue<T> idle;
+    private final Supplier<T> factory;
+
+    public InstancePool(Supplier<T> factory) {
+        this(factory, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public InstancePool(Supplier<T> factory, int capacity) {
+        this.idle = new ArrayBlockingQueue<>(capacity);
+        this.factory = factory;
+    }
+
+    public T acquire() {
+        T instance = idle.poll();
+        return instance != null ? instance : factory.get();
+    }
+
+    public void release(T instance) {
+        idle.offer(instance);
+    }
+
+    int idle() {
+        return idle.size();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.manage_tasks.utils;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+public final class JsonWebKeys {
+    private static final String P256 = "P-256";
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    private JsonWebKeys() {
+    }
+
+    public static Map<String, Object> toJwk(SigningKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", key.getKid());
+        jwk.put("use", "sig");
+        jwk.put("alg", key.getAlgorithm().getValue());
+        if (key.getVerificationKey() instanceof RSAPublicKey) {
+            RSAPublicKey publicKey = (RSAPublicKey) key.getVerificationKey();
+            jwk.put("kty", "RSA");
+            jwk.put("n", encode(publicKey.getModulus(), 0));
+            jwk.put("e", encode(publicKey.getPublicExponent(), 0));
+        } else if (key.getVerificationKey() instanceof ECPublicKey) {
+            ECPoint point = ((ECPublicKey) key.getVerificationKey()).getW();
+            jwk.put("kty", "EC");
+            jwk.put("crv", P256);
+            jwk.put("x", encode(point.getAffineX(), P256_COORDINATE_LENGTH));
+            jwk.put("y", encode(point.getAffineY(), P256_COORDINATE_LENGTH));
+        } else {
+            throw new IllegalArgumentException("key " + key.getKid() + " has no public part");
+        }
+        return jwk;
+    }
+
+    public static SigningKey fromJwk(Map<String, ?> jwk, short compactId) {
+        String kid = (String) jwk.get("kid");
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName((String) jwk.get("alg"));
+        try {
+            PublicKey publicKey;
+            if ("RSA".equals(jwk.get("kty"))) {
+                publicKey = KeyFactory.getInstance("RSA").generatePublic(
+                        new RSAPublicKeySpec(decode(jwk.get("n")), decode(jwk.get("e"))));
+            } else if ("EC".equals(jwk.get("kty")) && P256.equals(jwk.get("crv"))) {
+                publicKey = KeyFactory.getInstance("EC").generatePublic(
+                        new ECPublicKeySpec(new ECPoint(decode(jwk.get("x")), decode(jwk.get("y"))), p256()));
+            } else {
+                throw new IllegalArgumentException("unsupported key type for " + kid);
+            }
+            return SigningKey.asymmetric(kid, compactId, algorithm, null, publicKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("invalid public key " + kid, e);
+        }
+    }
+
+    public static PublicKey publicKey(SignatureAlgorithm algorithm, String base64Der) {
+        try {
+            return KeyFactory.getInstance(keyFamily(algorithm))
+                    .generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(base64Der)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("invalid public key", e);
+        }
+    }
+
+    public static PrivateKey privateKey(SignatureAlgorithm algorithm, String base64Der) {
+        try {
+            return KeyFactory.getInstance(keyFamily(algorithm))
+                    .generatePrivate(new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(base64Der)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("invalid private key", e);
+        }
+    }
+
+    private static String keyFamily(SignatureAlgorithm algorithm) {
+        if (algorithm.isRsa())
+            return "RSA";
+        if (algorithm.isEllipticCurve())
+            return "EC";
+        throw new IllegalArgumentException("unsupported asymmetric algorithm " + algorithm);
+    }
+
+    private static ECParameterSpec p256() throws GeneralSecurityException {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        return parameters.getParameterSpec(ECParameterSpec.class);
+    }
+
+    private static String encode(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        int start = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        int size = Math.max(bytes.length - start, length);
+        byte[] unsigned = new byte[size];
+        System.arraycopy(bytes, start, unsigned, size - (bytes.length - start), bytes.length - start);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(unsigned);
+    }
+
+    private static BigInteger decode(Object value) {
+        if (!(value instanceof String))
+            throw new IllegalArgumentException("missing key parameter");
+        return new BigInteger(1, Base64.getUrlDecoder().decode((String) value));
+    }
+}
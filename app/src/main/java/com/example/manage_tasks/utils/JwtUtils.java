@@ -0,0 +1,137 @@
+package com.example.manage_tasks.utils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.PostConstruct;
+
+import com.example.manage_tasks.exceptions.TokenRevokedException;
+import com.example.manage_tasks.models.CustomUserDetails;
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.example.manage_tasks.models.User;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class JwtUtils {
+    public static final String COMPACT_FORMAT = "compact";
+    private final TokenCache tokenCache;
+    private final CompactTokenCodec compactTokenCodec;
+    private final TokenDenylist tokenDenylist;
+    private final SigningKeyRegistry keyRegistry;
+    private final TokenPrecheck tokenPrecheck;
+    @Value("${jwt.time_delta}")
+    private final long jwtCookieMaxAge;
+    @Value("${jwt.format:jwt}")
+    private final String tokenFormat;
+
+    @PostConstruct
+    void checkCompactRoles() {
+        if (COMPACT_FORMAT.equals(tokenFormat) && !compactTokenCodec.canEncode(AuthorityRegistry.BUILT_IN))
+            throw new IllegalStateException("jwt.compact.roles must include " + AuthorityRegistry.BUILT_IN.getRoles());
+    }
+
+    // compact tokens carry no email or username; users they cannot describe get a regular JWT instead
+    public String generateToken(User user) {
+        if (COMPACT_FORMAT.equals(tokenFormat) && user.getUserId() != null
+                && compactTokenCodec.canEncode(AuthorityRegistry.of(user.getRoles()))) {
+            Instant now = Instant.now();
+            return compactTokenCodec.encode(user, now, now.plusMillis(jwtCookieMaxAge));
+        }
+        SigningKey key = keyRegistry.active();
+        long now = System.currentTimeMillis();
+        return Jwts
+                .builder()
+                .setHeaderParam(JwsHeader.KEY_ID, key.getKid())
+                .setClaims(generateClaimsMap(user))
+                .setId(Long.toHexString(ThreadLocalRandom.current().nextLong()))
+                // fractional seconds, so a revoke-all and a login in the same second stay ordered
+                .claim(Claims.ISSUED_AT, BigDecimal.valueOf(now, 3))
+                .setExpiration(new Date(now + jwtCookieMaxAge))
+                .signWith(key.getAlgorithm(), key.getSigningKey())
+                .compact();
+    }
+
+    private Claims extractClaims(String token) {
+        return Jwts.parser().setSigningKeyResolver(keyRegistry.resolver()).parseClaimsJws(token).getBody();
+    }
+
+    public TokenPrincipal verify(String token) {
+        tokenPrecheck.check(token);
+        TokenPrincipal principal = tokenCache.get(token, this::parse);
+        if (tokenDenylist.isRevoked(principal))
+            throw new TokenRevokedException();
+        return principal;
+    }
+
+    public void revoke(String token) {
+        TokenPrincipal principal = verify(token);
+        tokenDenylist.revoke(principal);
+        tokenCache.invalidate(token);
+    }
+
+    public void revokeAllBefore(long userId, Instant before) {
+        tokenDenylist.revokeAllBefore(userId, before);
+    }
+
+    public boolean isRevokedBefore(long userId, Instant issuedAt) {
+        return tokenDenylist.isRevokedBefore(userId, issuedAt);
+    }
+
+    private TokenPrincipal parse(String token) {
+        if (compactTokenCodec.isCompact(token))
+            return compactTokenCodec.decode(token);
+        Claims claims = extractClaims(token);
+        return new TokenPrincipal(
+                claims.get("uid", Long.class),
+                claims.getId() == null ? 0 : Long.parseUnsignedLong(claims.getId(), 16),
+                claims.get("email", String.class),
+                claims.get("username", String.class),
+                AuthorityRegistry.of(claims.get("roles", String.class)),
+                issuedAt(claims),
+                claims.getExpiration().toInstant());
+    }
+
+    private static Instant issuedAt(Claims claims) {
+        Object issuedAt = claims.get(Claims.ISSUED_AT);
+        if (issuedAt instanceof Number)
+            return Instant.ofEpochMilli(Math.round(((Number) issuedAt).doubleValue() * 1000));
+        return claims.getIssuedAt().toInstant();
+    }
+
+    public boolean verifyToken(String token) {
+        return !verify(token).isExpired();
+    }
+
+    private Map<String, Object> generateClaimsMap(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("email", user.getEmail());
+        claims.put("username", user.getName());
+        claims.put("roles", user.getRoles());
+        if (user.getUserId() != null)
+            claims.put("uid", user.getUserId());
+        return claims;
+    }
+
+    public CustomUserDetails extractUser(String token) {
+        TokenPrincipal principal = verify(token);
+        User user = new User();
+        user.setEmail(principal.getEmail());
+        user.setName(principal.getUsername());
+        user.setRoles(principal.getAuthoritySet().getRoles());
+        return new CustomUserDetails(user);
+    }
+
+}
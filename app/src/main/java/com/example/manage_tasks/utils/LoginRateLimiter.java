@@ -0,0 +1,186 @@
+package com.example.manage_tasks.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+
+import com.example.manage_tasks.configuration.ConditionalOnIssuer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnIssuer
+public class LoginRateLimiter {
+    public static final long ALLOWED = 0;
+    private static final String IP_KEY = "ip:";
+    private static final String EMAIL_KEY = "email:";
+    private final boolean enabled;
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+    private final Buckets buckets;
+    private final AuthMetrics metrics;
+
+    public LoginRateLimiter(AuthMetrics metrics,
+            @Value("${rate_limit.enabled:true}") boolean enabled,
+            @Value("${rate_limit.ip.per_minute:30}") int ipPerMinute,
+            @Value("${rate_limit.ip.burst:10}") int ipBurst,
+            @Value("${rate_limit.email.per_minute:5}") int emailPerMinute,
+            @Value("${rate_limit.email.burst:5}") int emailBurst,
+            @Value("${rate_limit.max_keys:100000}") long maxKeys,
+            @Value("${rate_limit.idle_millis:600000}") long idleMillis,
+            @Value("${rate_limit.shared_path:}") String sharedPath,
+            @Value("${rate_limit.shared_slots:1048576}") int sharedSlots) {
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.ipLimit = new Limit(ipPerMinute, ipBurst);
+        this.emailLimit = new Limit(emailPerMinute, emailBurst);
+        this.buckets = sharedPath.isBlank()
+                ? new LocalBuckets(maxKeys, Duration.ofMillis(idleMillis))
+                : new SharedBuckets(Path.of(sharedPath), sharedSlots);
+    }
+
+    public long tryAcquire(String clientIp, String email) {
+        if (!enabled)
+            return ALLOWED;
+        long now = System.currentTimeMillis();
+        if (clientIp != null) {
+            long wait = buckets.acquire(IP_KEY + clientIp, now, ipLimit);
+            if (wait != ALLOWED) {
+                metrics.rateLimited("ip");
+                return wait;
+            }
+        }
+        if (email != null) {
+            long wait = buckets.acquire(EMAIL_KEY + email, now, emailLimit);
+            if (wait != ALLOWED) {
+                metrics.rateLimited("email");
+                return wait;
+            }
+        }
+        return ALLOWED;
+    }
+
+    @PreDestroy
+    public void close() {
+        buckets.close();
+    }
+
+    private static final class Limit {
+        private final long intervalMillis;
+        private final long toleranceMillis;
+
+        private Limit(int perMinute, int burst) {
+            this.intervalMillis = Math.max(1, Duration.ofMinutes(1).toMillis() / Math.max(1, perMinute));
+            this.toleranceMillis = intervalMillis * (Math.max(1, burst) - 1);
+        }
+
+        private long next(long theoreticalArrival, long now) {
+            long start = Math.max(theoreticalArrival, now);
+            return start - now > toleranceMillis ? -(start - now - toleranceMillis) : start + intervalMillis;
+        }
+    }
+
+    private interface Buckets {
+        long acquire(String key, long now, Limit limit);
+
+        void close();
+    }
+
+    private static final class LocalBuckets implements Buckets {
+        private final Cache<String, AtomicLong> cells;
+
+        private LocalBuckets(long maxKeys, Duration idle) {
+            this.cells = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(idle)
+                    .build();
+        }
+
+        @Override
+        public long acquire(String key, long now, Limit limit) {
+            AtomicLong cell = cells.get(key, k -> new AtomicLong());
+            while (true) {
+                long current = cell.get();
+                long next = limit.next(current, now);
+                if (next < 0)
+                    return -next;
+                if (cell.compareAndSet(current, next))
+                    return ALLOWED;
+            }
+        }
+
+        @Override
+        public void close() {
+            cells.invalidateAll();
+        }
+    }
+
+    private static final class SharedBuckets implements Buckets {
+        private static final VarHandle CELLS = MethodHandles.byteBufferViewVarHandle(long[].class,
+                ByteOrder.nativeOrder());
+        private final FileChannel channel;
+        private final MappedByteBuffer cells;
+        private final int mask;
+
+        private SharedBuckets(Path path, int slots) {
+            int size = Integer.highestOneBit(Math.max(slots, 1024));
+            try {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+                this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+                this.cells = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) size * Long.BYTES);
+            } catch (IOException e) {
+                throw new UncheckedIOException("could not map rate limit state " + path, e);
+            }
+            this.mask = size - 1;
+            log.info("Sharing login rate limits through {} ({} slots)", path, size);
+        }
+
+        @Override
+        public long acquire(String key, long now, Limit limit) {
+            int offset = slot(key) * Long.BYTES;
+            while (true) {
+                long current = (long) CELLS.getVolatile(cells, offset);
+                long next = limit.next(current, now);
+                if (next < 0)
+                    return -next;
+                if (CELLS.compareAndSet(cells, offset, current, next))
+                    return ALLOWED;
+            }
+        }
+
+        private int slot(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8))
+                hash = (hash ^ (b & 0xFF)) * 0x100000001b3L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Could not close rate limit state", e);
+            }
+        }
+    }
+}
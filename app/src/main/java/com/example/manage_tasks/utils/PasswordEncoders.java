@@ -0,0 +1,138 @@
+package com.example.manage_tasks.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class PasswordEncoders {
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+    private static final String CALIBRATION_SAMPLE = "calibration-sample-password";
+
+    private PasswordEncoders() {
+    }
+
+    public static PasswordEncoder delegating(String algorithm, int cost) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, BCRYPT.equals(algorithm) ? create(BCRYPT, cost) : new BCryptPasswordEncoder());
+        encoders.put(ARGON2, ARGON2.equals(algorithm) ? create(ARGON2, cost) : create(ARGON2, 3));
+        encoders.put(PBKDF2, PBKDF2.equals(algorithm) ? create(PBKDF2, cost) : create(PBKDF2, 310_000));
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+        return encoder;
+    }
+
+    public static PasswordEncoder create(String algorithm, int cost) {
+        return switch (algorithm) {
+            case BCRYPT -> new BCryptPasswordEncoder(cost);
+            case ARGON2 -> new Argon2PasswordEncoder(16, 32, 1, 1 << 14, cost);
+            case PBKDF2 -> new IterationAwarePbkdf2PasswordEncoder(cost);
+            default -> throw new IllegalArgumentException("unknown password hashing algorithm " + algorithm);
+        };
+    }
+
+    public static int calibrate(String algorithm, long targetMillis) {
+        int cost = minimumCost(algorithm);
+        while (true) {
+            int next = nextCost(algorithm, cost);
+            if (next > maximumCost(algorithm) || measureNanos(create(algorithm, next)) > targetMillis * 1_000_000)
+                break;
+            cost = next;
+        }
+        log.info("Calibrated {} cost to {} for a {}ms hashing target", algorithm, cost, targetMillis);
+        return cost;
+    }
+
+    private static long measureNanos(PasswordEncoder encoder) {
+        encoder.encode(CALIBRATION_SAMPLE);
+        long[] samples = new long[3];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_SAMPLE);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[1];
+    }
+
+    private static int minimumCost(String algorithm) {
+        return switch (algorithm) {
+            case BCRYPT -> 4;
+            case ARGON2 -> 1;
+            case PBKDF2 -> 10_000;
+            default -> throw new IllegalArgumentException("unknown password hashing algorithm " + algorithm);
+        };
+    }
+
+    private static int maximumCost(String algorithm) {
+        return switch (algorithm) {
+            case BCRYPT -> 31;
+            case ARGON2 -> 64;
+            case PBKDF2 -> 10_000_000;
+            default -> throw new IllegalArgumentException("unknown password hashing algorithm " + algorithm);
+        };
+    }
+
+    private static int nextCost(String algorithm, int cost) {
+        return PBKDF2.equals(algorithm) ? cost * 2 : cost + 1;
+    }
+
+    private static class IterationAwarePbkdf2PasswordEncoder implements PasswordEncoder {
+        private final Map<Integer, Pbkdf2PasswordEncoder> encoders = new ConcurrentHashMap<>();
+        private final int iterations;
+
+        IterationAwarePbkdf2PasswordEncoder(int iterations) {
+            this.iterations = iterations;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return iterations + "$" + encoder(iterations).encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            int encodedIterations = iterationsOf(encodedPassword);
+            if (encodedIterations <= 0)
+                return false;
+            return encoder(encodedIterations).matches(rawPassword,
+                    encodedPassword.substring(encodedPassword.indexOf('$') + 1));
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return iterationsOf(encodedPassword) < iterations;
+        }
+
+        private static int iterationsOf(String encodedPassword) {
+            int separator = encodedPassword == null ? -1 : encodedPassword.indexOf('$');
+            if (separator <= 0)
+                return -1;
+            try {
+                return Integer.parseInt(encodedPassword.substring(0, separator));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        private Pbkdf2PasswordEncoder encoder(int iterations) {
+            return encoders.computeIfAbsent(iterations, i -> {
+                Pbkdf2PasswordEncoder encoder = new Pbkdf2PasswordEncoder("", 16, i, 256);
+                encoder.setAlgorithm(SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+                return encoder;
+            });
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.manage_tasks.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.http.HttpMethod;
+
+import lombok.Value;
+
+/**
+ * Trie of ant-style route patterns. Supports literal segments, {@code *} or {@code {var}} for one segment and
+ * {@code **} for any number of segments; matching walks the path in place without allocating.
+ */
+public final class RouteMatcher {
+    private static final int ANY_METHOD = -1;
+    private final Node root = new Node(null);
+
+    public RouteMatcher(Collection<Route> routes) {
+        for (Route route : routes)
+            add(route);
+    }
+
+    public boolean matches(String method, String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/')
+            return false;
+        HttpMethod httpMethod = HttpMethod.resolve(method);
+        if (httpMethod == null)
+            return false;
+        return match(root, path, 0, 1 << httpMethod.ordinal());
+    }
+
+    private void add(Route route) {
+        String pattern = route.getPattern();
+        if (!pattern.startsWith("/"))
+            throw new IllegalArgumentException("route pattern must start with /: " + pattern);
+        Node node = root;
+        for (String segment : pattern.substring(1).split("/", -1)) {
+            if (segment.equals("**"))
+                node = node.anyDepth != null ? node.anyDepth : (node.anyDepth = new Node(segment));
+            else if (segment.equals("*") || (segment.startsWith("{") && segment.endsWith("}")))
+                node = node.anySegment != null ? node.anySegment : (node.anySegment = new Node(segment));
+            else if (segment.indexOf('*') >= 0 || segment.indexOf('{') >= 0)
+                throw new IllegalArgumentException("wildcards must span a whole segment: " + pattern);
+            else
+                node = node.literal(segment);
+        }
+        node.methods |= route.getMethod() == null ? ANY_METHOD : 1 << route.getMethod().ordinal();
+    }
+
+    private static boolean match(Node node, String path, int pos, int method) {
+        if (node.anyDepth != null && (node.anyDepth.methods & method) != 0)
+            return true;
+        if (pos >= path.length())
+            return (node.methods & method) != 0;
+        int start = pos + 1;
+        int end = path.indexOf('/', start);
+        if (end < 0)
+            end = path.length();
+        int length = end - start;
+        for (int i = 0; i < node.literals.size(); i++) {
+            Node child = node.literals.get(i);
+            if (child.segment.length() == length && path.regionMatches(start, child.segment, 0, length)
+                    && match(child, path, end, method))
+                return true;
+        }
+        if (length > 0 && node.anySegment != null && match(node.anySegment, path, end, method))
+            return true;
+        if (node.anyDepth != null) {
+            for (int next = pos;; next = nextSlash(path, next)) {
+                if (match(node.anyDepth, path, next, method))
+                    return true;
+                if (next >= path.length())
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private static int nextSlash(String path, int pos) {
+        int next = path.indexOf('/', pos + 1);
+        return next < 0 ? path.length() : next;
+    }
+
+    private static final class Node {
+        private final String segment;
+        private final List<Node> literals = new ArrayList<>();
+        private Node anySegment;
+        private Node anyDepth;
+        private int methods;
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+
+        private Node literal(String segment) {
+            for (Node child : literals) {
+                if (child.segment.equals(segment))
+                    return child;
+            }
+            Node child = new Node(segment);
+            literals.add(child);
+            return child;
+        }
+    }
+
+    @Value
+    public static class Route {
+        HttpMethod method;
+        String pattern;
+
+        public static Route of(HttpMethod method, String pattern) {
+            return new Route(method, pattern);
+        }
+
+        public static Route any(String pattern) {
+            return new Route(null, pattern);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.manage_tasks.utils;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class SigningKey {
+    private final String kid;
+    private final short compactId;
+    private final SignatureAlgorithm algorithm;
+    private final Key signingKey;
+    private final Key verificationKey;
+    @Getter(AccessLevel.NONE)
+    private final InstancePool<Mac> macs;
+
+    private SigningKey(String kid, short compactId, SignatureAlgorithm algorithm, Key signingKey,
+            Key verificationKey) {
+        this.kid = kid;
+        this.compactId = compactId;
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+        this.macs = algorithm.isHmac() ? new InstancePool<>(this::newMac) : null;
+    }
+
+    public static SigningKey hmac(String kid, short compactId, String base64Secret) {
+        SecretKeySpec key = new SecretKeySpec(TextCodec.BASE64.decode(base64Secret),
+                SignatureAlgorithm.HS256.getJcaName());
+        return new SigningKey(kid, compactId, SignatureAlgorithm.HS256, key, key);
+    }
+
+    public static SigningKey asymmetric(String kid, short compactId, SignatureAlgorithm algorithm,
+            PrivateKey privateKey, PublicKey publicKey) {
+        if (algorithm != SignatureAlgorithm.RS256 && algorithm != SignatureAlgorithm.ES256)
+            throw new IllegalArgumentException("unsupported asymmetric algorithm " + algorithm);
+        return new SigningKey(kid, compactId, algorithm, privateKey, publicKey);
+    }
+
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    public byte[] mac(byte[] input, int length) {
+        if (macs == null)
+            throw new IllegalStateException("key " + kid + " is not an HMAC key");
+        Mac mac = macs.acquire();
+        try {
+            mac.update(input, 0, length);
+            return mac.doFinal();
+        } finally {
+            macs.release(mac);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(algorithm.getJcaName());
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
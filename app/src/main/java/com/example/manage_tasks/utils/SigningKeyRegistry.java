@@ -0,0 +1,280 @@
+package com.example.manage_tasks.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.annotation.PostConstruct;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SigningKeyRegistry {
+    public static final String DEFAULT_KID = "default";
+    private static final String ACTIVE_ENTRY = "active";
+    private static final String KEY_PREFIX = "key.";
+    private static final String ALGORITHM_SUFFIX = ".alg";
+    private static final String PRIVATE_SUFFIX = ".private";
+    private static final String PUBLIC_SUFFIX = ".public";
+    private static final Duration JWKS_TIMEOUT = Duration.ofSeconds(5);
+    private final Path storePath;
+    private final URI jwksUri;
+    private final TokenCache tokenCache;
+    private final SigningKey defaultKey;
+    private static final TypeReference<Map<String, Object>> JWK_TYPE = new TypeReference<>() {
+    };
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SigningKeyResolver resolver = new SigningKeyResolverAdapter() {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String kid = header.getKeyId();
+            SigningKey key = kid == null ? keys.fallback : byKid(kid);
+            if (key == null || !key.getAlgorithm().getValue().equals(header.getAlgorithm()))
+                throw new SignatureException("token algorithm does not match signing key " + kid);
+            return key.getVerificationKey();
+        }
+    };
+    private volatile Keys keys;
+    private long loadedModified = Long.MIN_VALUE;
+    private HttpClient httpClient;
+
+    public SigningKeyRegistry(@Value("${jwt.secret_key:}") String defaultSecret,
+            @Value("${jwt.keys.store_path:}") String storePath, @Value("${jwt.keys.jwks_url:}") String jwksUrl,
+            TokenCache tokenCache) {
+        this.storePath = storePath.isBlank() ? null : Path.of(storePath);
+        this.jwksUri = jwksUrl.isBlank() ? null : URI.create(jwksUrl);
+        this.tokenCache = tokenCache;
+        if (jwksUri != null || defaultSecret.isBlank()) {
+            this.defaultKey = null;
+            this.keys = new Keys(null, Map.of(), Map.of());
+        } else {
+            this.defaultKey = SigningKey.hmac(DEFAULT_KID, (short) 0, defaultSecret);
+            this.keys = new Keys(defaultKey, Map.of(DEFAULT_KID, defaultKey), Map.of((short) 0, defaultKey));
+        }
+    }
+
+    public SigningKey active() {
+        SigningKey active = keys.active;
+        if (active == null || !active.canSign())
+            throw new IllegalStateException("this node only verifies tokens, it holds no signing key");
+        return active;
+    }
+
+    public boolean canSign() {
+        SigningKey active = keys.active;
+        return active != null && active.canSign();
+    }
+
+    public SigningKey byKid(String kid) {
+        SigningKey key = keys.byKid.get(kid);
+        if (key == null)
+            throw new SignatureException("unknown signing key " + kid);
+        return key;
+    }
+
+    public SigningKey byCompactId(short compactId) {
+        SigningKey key = keys.byCompactId.get(compactId);
+        if (key == null)
+            throw new SignatureException("unknown compact signing key " + compactId);
+        return key;
+    }
+
+    public Collection<SigningKey> publicKeys() {
+        List<SigningKey> publicKeys = new ArrayList<>();
+        for (SigningKey key : keys.byKid.values()) {
+            if (!key.getAlgorithm().isHmac())
+                publicKeys.add(key);
+        }
+        return publicKeys;
+    }
+
+    public SigningKeyResolver resolver() {
+        return resolver;
+    }
+
+    public int size() {
+        return keys.byKid.size();
+    }
+
+    @PostConstruct
+    public void load() {
+        if (jwksUri != null) {
+            reload();
+            return;
+        }
+        try {
+            reloadIfChanged();
+        } catch (IOException | InterruptedException e) {
+            throw new IllegalStateException("could not load signing keys from " + storePath, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.keys.reload_interval:60000}")
+    public synchronized void reload() {
+        try {
+            reloadIfChanged();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            log.error("Keeping current signing keys, reload failed", e);
+        }
+    }
+
+    private synchronized void reloadIfChanged() throws IOException, InterruptedException {
+        if (jwksUri != null)
+            swap(fetchJwks(), jwksUri.toString());
+        else if (storePath != null && Files.exists(storePath))
+            loadStore();
+    }
+
+    private void loadStore() throws IOException {
+        long modified = Files.getLastModifiedTime(storePath).toMillis();
+        if (modified == loadedModified)
+            return;
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(storePath, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        swap(parse(properties), storePath.toString());
+        loadedModified = modified;
+    }
+
+    private void swap(Keys loaded, String source) {
+        Keys previous = keys;
+        if (loaded.byKid.keySet().equals(previous.byKid.keySet()) && sameKey(loaded.active, previous.active)
+                && loaded.byKid.values().stream().allMatch(key -> sameKey(key, previous.byKid.get(key.getKid()))))
+            return;
+        keys = loaded;
+        log.info("Loaded {} signing keys from {}, active key {}", loaded.byKid.size(), source,
+                loaded.active == null ? "none" : loaded.active.getKid());
+        for (SigningKey key : previous.byKid.values()) {
+            if (!sameKey(key, loaded.byKid.get(key.getKid()))) {
+                tokenCache.invalidateAll();
+                return;
+            }
+        }
+    }
+
+    // same kid is not enough: a kid republished with new material must replace the old key
+    private static boolean sameKey(SigningKey first, SigningKey second) {
+        if (first == null || second == null)
+            return first == second;
+        return first.getKid().equals(second.getKid()) && first.getAlgorithm() == second.getAlgorithm()
+                && first.getVerificationKey().equals(second.getVerificationKey())
+                && first.canSign() == second.canSign();
+    }
+
+    private Keys fetchJwks() throws IOException, InterruptedException {
+        if (httpClient == null)
+            httpClient = HttpClient.newBuilder().connectTimeout(JWKS_TIMEOUT).build();
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(jwksUri).timeout(JWKS_TIMEOUT).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200)
+            throw new IOException("JWKS endpoint answered " + response.statusCode());
+        Map<String, SigningKey> byKid = new HashMap<>();
+        Map<Short, SigningKey> byCompactId = new HashMap<>();
+        for (JsonNode jwk : objectMapper.readTree(response.body()).path("keys")) {
+            Map<String, Object> fields = objectMapper.convertValue(jwk, JWK_TYPE);
+            String kid = (String) fields.get("kid");
+            SigningKey fetched = JsonWebKeys.fromJwk(fields, compactId(kid));
+            SigningKey cached = keys.byKid.get(kid);
+            put(sameKey(cached, fetched) ? cached : fetched, byKid, byCompactId);
+        }
+        return new Keys(null, Map.copyOf(byKid), Map.copyOf(byCompactId));
+    }
+
+    private Keys parse(Properties properties) {
+        Map<String, SigningKey> byKid = new HashMap<>();
+        Map<Short, SigningKey> byCompactId = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith(KEY_PREFIX) || name.indexOf('.', KEY_PREFIX.length()) >= 0)
+                continue;
+            String kid = name.substring(KEY_PREFIX.length());
+            put(SigningKey.hmac(kid, compactId(kid), properties.getProperty(name).strip()), byKid, byCompactId);
+        }
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith(KEY_PREFIX) || !name.endsWith(ALGORITHM_SUFFIX))
+                continue;
+            String kid = name.substring(KEY_PREFIX.length(), name.length() - ALGORITHM_SUFFIX.length());
+            SignatureAlgorithm algorithm = SignatureAlgorithm.forName(properties.getProperty(name).strip());
+            String privateKey = properties.getProperty(KEY_PREFIX + kid + PRIVATE_SUFFIX);
+            String publicKey = properties.getProperty(KEY_PREFIX + kid + PUBLIC_SUFFIX);
+            if (publicKey == null)
+                throw new IllegalArgumentException("key " + kid + " has no public part");
+            put(SigningKey.asymmetric(kid, compactId(kid), algorithm,
+                    privateKey == null ? null : JsonWebKeys.privateKey(algorithm, privateKey.strip()),
+                    JsonWebKeys.publicKey(algorithm, publicKey.strip())), byKid, byCompactId);
+        }
+        // tokens minted before the keystore existed carry kid 'default' or none; keep jwt.secret_key verify-only
+        if (defaultKey != null && !byKid.containsKey(DEFAULT_KID))
+            put(defaultKey, byKid, byCompactId);
+        String activeKid = properties.getProperty(ACTIVE_ENTRY, "").strip();
+        SigningKey active = activeKid.isEmpty() ? null : byKid.get(activeKid);
+        if (!activeKid.isEmpty() && active == null)
+            throw new IllegalArgumentException("active key " + activeKid + " is not in the keystore");
+        if (active != null && active == defaultKey)
+            throw new IllegalStateException("jwt.secret_key only verifies older tokens once a keystore is loaded; "
+                    + "add key." + DEFAULT_KID + " to the keystore to keep signing with it");
+        return new Keys(active, Map.copyOf(byKid), Map.copyOf(byCompactId));
+    }
+
+    private static void put(SigningKey key, Map<String, SigningKey> byKid, Map<Short, SigningKey> byCompactId) {
+        if (byKid.put(key.getKid(), key) != null)
+            throw new IllegalArgumentException("key " + key.getKid() + " is defined twice");
+        SigningKey clash = byCompactId.put(key.getCompactId(), key);
+        if (clash != null)
+            throw new IllegalArgumentException("key ids " + key.getKid() + " and " + clash.getKid() + " collide");
+    }
+
+    private static short compactId(String kid) {
+        if (DEFAULT_KID.equals(kid))
+            return 0;
+        short id = (short) (kid.hashCode() ^ (kid.hashCode() >>> 16));
+        return id == 0 ? 1 : id;
+    }
+
+    private static final class Keys {
+        private final SigningKey active;
+        private final SigningKey fallback;
+        private final Map<String, SigningKey> byKid;
+        private final Map<Short, SigningKey> byCompactId;
+
+        private Keys(SigningKey active, Map<String, SigningKey> byKid, Map<Short, SigningKey> byCompactId) {
+            this.active = active;
+            this.fallback = byKid.getOrDefault(DEFAULT_KID, active);
+            this.byKid = byKid;
+            this.byCompactId = byCompactId;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.manage_tasks.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TokenCache implements MeterBinder {
+    private static final InstancePool<MessageDigest> SHA_256 = new InstancePool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+    private final boolean enabled;
+    private final Cache<ByteBuffer, TokenPrincipal> cache;
+
+    public TokenCache(@Value("${jwt.cache.enabled:false}") boolean enabled,
+            @Value("${jwt.cache.max_size:10000}") long maxSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public TokenPrincipal get(String token, Function<String, TokenPrincipal> verifier) {
+        if (!enabled)
+            return verifier.apply(token);
+        TokenPrincipal principal = cache.get(digest(token), key -> verifier.apply(token));
+        if (principal.isExpired()) {
+            cache.invalidate(digest(token));
+            return verifier.apply(token);
+        }
+        return principal;
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "token");
+    }
+
+    private static ByteBuffer digest(String token) {
+        MessageDigest digest = SHA_256.acquire();
+        try {
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } finally {
+            SHA_256.release(digest);
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<ByteBuffer, TokenPrincipal> {
+        @Override
+        public long expireAfterCreate(ByteBuffer key, TokenPrincipal value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, TokenPrincipal value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, TokenPrincipal value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.manage_tasks.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import com.example.manage_tasks.models.TokenPrincipal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class TokenDenylist {
+    private static final String TOKEN_ENTRY = "token";
+    private static final String USER_ENTRY = "user";
+    private static final int MAX_BLOOM_BITS = 1 << 21;
+    private final int bloomBits;
+    private final long maxTokenLifetimeSeconds;
+    private final Path storePath;
+    // verifiers never write the store; they follow the one their issuer appends to
+    private final boolean follower;
+    private final Map<Long, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, long[]> revokedUsers = new ConcurrentHashMap<>();
+    private volatile AtomicLongArray tokenBloom;
+    private volatile AtomicLongArray userBloom;
+    private BufferedWriter store;
+    private Object followedFileKey;
+    private long followedOffset;
+
+    public TokenDenylist(@Value("${revocation.bloom_bits:1048576}") int bloomBits,
+            @Value("${jwt.time_delta}") long maxTokenLifetimeMillis,
+            @Value("${revocation.store_path:}") String storePath,
+            @Value("${node.role:issuer}") String nodeRole) {
+        this.bloomBits = Integer.highestOneBit(Math.min(Math.max(bloomBits, Long.SIZE), MAX_BLOOM_BITS));
+        this.maxTokenLifetimeSeconds = maxTokenLifetimeMillis / 1000;
+        this.storePath = storePath.isBlank() ? null : Path.of(storePath);
+        this.follower = "verifier".equals(nodeRole);
+        this.tokenBloom = new AtomicLongArray(this.bloomBits / Long.SIZE);
+        this.userBloom = new AtomicLongArray(this.bloomBits / Long.SIZE);
+    }
+
+    public boolean isRevoked(TokenPrincipal principal) {
+        if (principal.getTokenId() != 0 && mightContain(tokenBloom, principal.getTokenId())
+                && revokedTokens.containsKey(principal.getTokenId()))
+            return true;
+        return principal.getUserId() != null && isRevokedBefore(principal.getUserId(), principal.getIssuedAt());
+    }
+
+    public boolean isRevokedBefore(long userId, Instant issuedAt) {
+        if (!mightContain(userBloom, userId))
+            return false;
+        long[] revokedBefore = revokedUsers.get(userId);
+        return revokedBefore != null && issuedAt.toEpochMilli() < revokedBefore[0];
+    }
+
+    public synchronized void revoke(TokenPrincipal principal) {
+        if (principal.getTokenId() == 0) {
+            log.warn("Token of user {} has no id and cannot be revoked on its own; it stays valid until {}",
+                    principal.getUserId(), principal.getExpiresAt());
+            return;
+        }
+        long expiresAt = principal.getExpiresAt().getEpochSecond();
+        addToken(principal.getTokenId(), expiresAt);
+        append(TOKEN_ENTRY, principal.getTokenId(), expiresAt, expiresAt);
+    }
+
+    public synchronized void revokeAllBefore(long userId, Instant before) {
+        long revokedBefore = before.toEpochMilli();
+        long expiresAt = before.getEpochSecond() + 1 + maxTokenLifetimeSeconds;
+        addUser(userId, revokedBefore, expiresAt);
+        append(USER_ENTRY, userId, revokedBefore, expiresAt);
+    }
+
+    public int size() {
+        return revokedTokens.size() + revokedUsers.size();
+    }
+
+    private void addToken(long tokenId, long expiresAt) {
+        revokedTokens.put(tokenId, expiresAt);
+        add(tokenBloom, tokenId);
+    }
+
+    private void addUser(long userId, long revokedBefore, long expiresAt) {
+        revokedUsers.merge(userId, new long[] { revokedBefore, expiresAt },
+                (current, next) -> current[0] >= next[0] ? current : next);
+        add(userBloom, userId);
+    }
+
+    @Scheduled(fixedDelayString = "${revocation.sweep_interval:60000}")
+    public synchronized void sweep() {
+        long now = Instant.now().getEpochSecond();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedUsers.values().removeIf(entry -> entry[1] <= now);
+        AtomicLongArray tokens = new AtomicLongArray(bloomBits / Long.SIZE);
+        revokedTokens.keySet().forEach(id -> add(tokens, id));
+        AtomicLongArray users = new AtomicLongArray(bloomBits / Long.SIZE);
+        revokedUsers.keySet().forEach(id -> add(users, id));
+        tokenBloom = tokens;
+        userBloom = users;
+        compactStore();
+    }
+
+    @PostConstruct
+    public synchronized void load() {
+        if (storePath == null)
+            return;
+        try {
+            if (follower) {
+                follow();
+                log.info("Following {} revocations from {}", size(), storePath);
+                return;
+            }
+            Files.createDirectories(storePath.toAbsolutePath().getParent());
+            if (Files.exists(storePath)) {
+                long now = Instant.now().getEpochSecond();
+                for (String line : Files.readAllLines(storePath, StandardCharsets.US_ASCII))
+                    replay(line, now);
+            }
+            store = Files.newBufferedWriter(storePath, StandardCharsets.US_ASCII,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.info("Loaded {} revocations from {}", size(), storePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot load revocations from " + storePath, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${revocation.poll_interval:1000}")
+    public synchronized void poll() {
+        if (!follower || storePath == null)
+            return;
+        try {
+            follow();
+        } catch (IOException e) {
+            log.warn("Could not read revocations from {}", storePath, e);
+        }
+    }
+
+    private void follow() throws IOException {
+        if (!Files.exists(storePath))
+            return;
+        Object fileKey = Files.readAttributes(storePath, BasicFileAttributes.class).fileKey();
+        try (FileChannel channel = FileChannel.open(storePath, StandardOpenOption.READ)) {
+            // the issuer compacts by moving a new file over the store; start that file from the top
+            if (!Objects.equals(fileKey, Files.readAttributes(storePath, BasicFileAttributes.class).fileKey()))
+                return;
+            if (!Objects.equals(fileKey, followedFileKey) || channel.size() < followedOffset) {
+                followedFileKey = fileKey;
+                followedOffset = 0;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size() - followedOffset));
+            int read;
+            do
+                read = channel.read(buffer, followedOffset + buffer.position());
+            while (read > 0 && buffer.hasRemaining());
+            String appended = new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII);
+            int complete = appended.lastIndexOf('\n') + 1;
+            long now = Instant.now().getEpochSecond();
+            for (String line : appended.substring(0, complete).split("\r?\n"))
+                replay(line, now);
+            followedOffset += complete;
+        }
+    }
+
+    private void replay(String line, long now) {
+        String[] fields = line.split(",");
+        if (fields.length != 4 || Long.parseLong(fields[3]) <= now)
+            return;
+        if (TOKEN_ENTRY.equals(fields[0]))
+            addToken(Long.parseLong(fields[1]), Long.parseLong(fields[3]));
+        else if (USER_ENTRY.equals(fields[0]))
+            addUser(Long.parseLong(fields[1]), Long.parseLong(fields[2]), Long.parseLong(fields[3]));
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (store != null)
+            store.close();
+    }
+
+    private synchronized void append(String type, long id, long value, long expiresAt) {
+        if (store == null)
+            return;
+        try {
+            store.write(type + "," + id + "," + value + "," + expiresAt);
+            store.newLine();
+            store.flush();
+        } catch (IOException e) {
+            log.warn("Could not persist revocation of {} {}", type, id, e);
+        }
+    }
+
+    private void compactStore() {
+        if (store == null)
+            return;
+        Path compacted = storePath.resolveSibling(storePath.getFileName() + ".tmp");
+        try {
+            store.close();
+            List<String> lines = new ArrayList<>();
+            revokedTokens.forEach((id, expiresAt) -> lines.add(TOKEN_ENTRY + "," + id + "," + expiresAt + "," + expiresAt));
+            revokedUsers.forEach((id, entry) -> lines.add(USER_ENTRY + "," + id + "," + entry[0] + "," + entry[1]));
+            Files.write(compacted, lines, StandardCharsets.US_ASCII);
+            Files.move(compacted, storePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            store = Files.newBufferedWriter(storePath, StandardCharsets.US_ASCII,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Could not compact revocation store {}", storePath, e);
+        }
+    }
+
+    private boolean mightContain(AtomicLongArray bloom, long value) {
+        long hash = mix(value);
+        for (int i = 0; i < 3; i++) {
+            int bit = (int) (hash >>> (i * 21)) & (bloomBits - 1);
+            if ((bloom.get(bit >>> 6) & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    private void add(AtomicLongArray bloom, long value) {
+        long hash = mix(value);
+        for (int i = 0; i < 3; i++) {
+            int bit = (int) (hash >>> (i * 21)) & (bloomBits - 1);
+            long mask = 1L << bit;
+            bloom.getAndUpdate(bit >>> 6, word -> word | mask);
+        }
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
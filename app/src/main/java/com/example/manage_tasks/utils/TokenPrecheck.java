@@ -0,0 +1,101 @@
+package com.example.manage_tasks.utils;
+
+import com.example.manage_tasks.exceptions.InvalidTokenException;
+import com.example.manage_tasks.exceptions.InvalidTokenException.Reason;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects tokens that cannot verify before any signature work: oversized, structurally broken or already
+ * expired. Nothing here allocates, so junk costs about as much as reading the cookie.
+ */
+@Component
+public class TokenPrecheck {
+    static final long NO_EXPIRY = -1;
+    private static final byte[] EXP_KEY = { '"', 'e', 'x', 'p', '"' };
+    private static final int MAX_EXP_DIGITS = 18;
+    private final CompactTokenCodec compactTokenCodec;
+    private final int maxLength;
+
+    public TokenPrecheck(CompactTokenCodec compactTokenCodec, @Value("${jwt.max_token_length:4096}") int maxLength) {
+        this.compactTokenCodec = compactTokenCodec;
+        this.maxLength = maxLength;
+    }
+
+    public void check(String token) {
+        if (token == null || token.isEmpty())
+            throw InvalidTokenException.of(Reason.MALFORMED);
+        if (token.length() > maxLength)
+            throw InvalidTokenException.of(Reason.OVERSIZED);
+        long expiresAt = compactTokenCodec.isCompact(token) ? compactTokenCodec.peekExpiry(token) : peekJwtExpiry(token);
+        if (expiresAt != NO_EXPIRY && expiresAt <= System.currentTimeMillis() / 1000)
+            throw InvalidTokenException.of(Reason.EXPIRED);
+    }
+
+    private static long peekJwtExpiry(String token) {
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0)
+                    firstDot = i;
+                else if (secondDot < 0)
+                    secondDot = i;
+                else
+                    throw InvalidTokenException.of(Reason.MALFORMED);
+            } else if (CompactTokenCodec.base64UrlValue(c) < 0) {
+                throw InvalidTokenException.of(Reason.MALFORMED);
+            }
+        }
+        if (firstDot <= 0 || secondDot <= firstDot + 1 || secondDot == token.length() - 1)
+            throw InvalidTokenException.of(Reason.MALFORMED);
+        return findExp(token, firstDot + 1, secondDot);
+    }
+
+    // decodes the payload segment a byte at a time and scans for "exp" : <digits>
+    private static long findExp(String token, int from, int to) {
+        int bits = 0;
+        int bitCount = 0;
+        int matched = 0;
+        boolean afterKey = false;
+        boolean afterColon = false;
+        long value = 0;
+        int digits = 0;
+        for (int i = from; i < to; i++) {
+            bits = (bits << 6) | CompactTokenCodec.base64UrlValue(token.charAt(i));
+            bitCount += 6;
+            if (bitCount < 8)
+                continue;
+            bitCount -= 8;
+            int b = (bits >> bitCount) & 0xFF;
+            if (afterColon) {
+                if (b >= '0' && b <= '9' && digits < MAX_EXP_DIGITS) {
+                    value = value * 10 + (b - '0');
+                    digits++;
+                    continue;
+                }
+                if (digits == 0 && b == ' ')
+                    continue;
+                return digits == 0 ? NO_EXPIRY : value;
+            }
+            if (afterKey) {
+                if (b == ':')
+                    afterColon = true;
+                else if (b != ' ') {
+                    afterKey = false;
+                    matched = b == '"' ? 1 : 0;
+                }
+                continue;
+            }
+            if (b == EXP_KEY[matched]) {
+                if (++matched == EXP_KEY.length)
+                    afterKey = true;
+            } else {
+                matched = b == '"' ? 1 : 0;
+            }
+        }
+        return afterColon && digits > 0 ? value : NO_EXPIRY;
+    }
+}
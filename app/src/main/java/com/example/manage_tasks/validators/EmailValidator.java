@@ -0,0 +1,78 @@
+package com.example.manage_tasks.validators;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmailValidator implements Predicate<String>{
+    public static final int DEFAULT_MAX_LENGTH = 254;
+    private final int maxLength;
+
+    public EmailValidator() {
+        this(DEFAULT_MAX_LENGTH);
+    }
+
+    @Autowired
+    public EmailValidator(@Value("${validation.email.max_length:" + DEFAULT_MAX_LENGTH + "}") int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public boolean test(String email) {
+        if (email == null || email.length() > maxLength)
+            return false;
+        int start = 0;
+        int end = email.length();
+        while (start < end && Character.isWhitespace(email.charAt(start)))
+            start++;
+        while (end > start && Character.isWhitespace(email.charAt(end - 1)))
+            end--;
+        int at = -1;
+        int lastDot = -1;
+        for (int i = start; i < end; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0)
+                    return false;
+                at = i;
+            } else if (at < 0) {
+                if (!isLocalChar(c))
+                    return false;
+            } else if (c == '.') {
+                lastDot = i;
+            } else if (!isDomainChar(c)) {
+                return false;
+            }
+        }
+        if (at <= start || lastDot <= at + 1)
+            return false;
+        int tldLength = end - lastDot - 1;
+        if (tldLength < 2 || tldLength > 4)
+            return false;
+        for (int i = lastDot + 1; i < end; i++) {
+            if (!isLetter(email.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+
+    public String normalize(String email) {
+        return email == null ? null : email.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9') || c == '-';
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isDomainChar(c) || c == '.' || c == '_' || c == '%' || c == '+';
+    }
+
+}
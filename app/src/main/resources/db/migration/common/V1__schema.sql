@@ -0,0 +1,29 @@
+-- Schema as Hibernate mapped it before migrations were managed; "if not exists" lets databases
+-- that Hibernate already created pick up from here.
+create sequence if not exists usr_seq start with 1 increment by 50;
+
+create table if not exists usr_tbl (
+    user_id bigint not null,
+    name varchar(255),
+    password varchar(255),
+    email varchar(255),
+    created_at date,
+    updated_at date,
+    roles varchar(255),
+    constraint pk_usr_tbl primary key (user_id),
+    constraint uk_usr_tbl_email unique (email)
+);
+
+create table if not exists refresh_token_tbl (
+    id bigint generated by default as identity,
+    token_hash varchar(255) not null,
+    family_id varchar(255) not null,
+    user_id bigint,
+    expires_at timestamp,
+    used boolean not null,
+    revoked boolean not null,
+    constraint pk_refresh_token_tbl primary key (id),
+    constraint uk_refresh_token_hash unique (token_hash)
+);
+
+create index if not exists idx_refresh_token_family_id on refresh_token_tbl (family_id);
@@ -0,0 +1,6 @@
+-- Lookups normalize emails to lower case, so stored addresses must be lower case too.
+-- Rows that would collide with another account once lowered are left for a manual merge.
+update usr_tbl u
+set email = lower(u.email)
+where u.email <> lower(u.email)
+  and not exists (select 1 from usr_tbl o where o.user_id <> u.user_id and lower(o.email) = lower(u.email));
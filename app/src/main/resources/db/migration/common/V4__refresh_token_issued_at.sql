@@ -0,0 +1,4 @@
+-- Lets refresh rotation honour revoke-all cutoffs; older rows stay null and count as issued at the epoch.
+alter table refresh_token_tbl add column issued_at timestamp;
+
+create index idx_refresh_token_user_id on refresh_token_tbl (user_id);
@@ -0,0 +1,18 @@
+-- usr_tbl used an identity column before usr_seq existed. Hibernate's pooled optimizer reads every
+-- sequence value V as the block V-49..V, so the next value has to clear the highest existing id by 50.
+select setval('usr_seq', coalesce(max(user_id), 0) + 50, false) from usr_tbl;
+
+-- Hibernate named the email unique constraint after a hash; signup recognises duplicates by this name.
+do $$
+declare
+    legacy text;
+begin
+    select c.conname into legacy
+    from pg_constraint c
+    join pg_class t on t.oid = c.conrelid
+    join pg_attribute a on a.attrelid = t.oid and a.attname = 'email'
+    where t.relname = 'usr_tbl' and c.contype = 'u' and c.conkey = array[a.attnum];
+    if legacy is not null and legacy <> 'uk_usr_tbl_email' then
+        execute format('alter table usr_tbl rename constraint %I to uk_usr_tbl_email', legacy);
+    end if;
+end $$;
@@ -0,0 +1,41 @@
+package com.example.manage_tasks.configuration;
+
+import com.example.manage_tasks.dto.ImportRowResult;
+import com.example.manage_tasks.dto.ImportSummary;
+import com.example.manage_tasks.dto.TokenPair;
+import com.example.manage_tasks.dto.UserDto;
+import com.example.manage_tasks.models.RefreshToken;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.models.UserRecord;
+
+import org.hibernate.Session;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.nativex.hint.JdkProxyHint;
+import org.springframework.nativex.hint.NativeHint;
+import org.springframework.nativex.hint.TypeAccess;
+import org.springframework.nativex.hint.TypeHint;
+import org.springframework.orm.jpa.EntityManagerProxy;
+
+/**
+ * Reflection and proxy metadata the AOT plugin cannot infer; only compiled by the native profile. Lombok needs
+ * nothing here, its accessors are plain bytecode by the time AOT processing runs.
+ */
+@Configuration(proxyBeanMethods = false)
+@NativeHint(
+        types = {
+                // Jackson request and response bodies
+                @TypeHint(types = { UserDto.class, TokenPair.class, ImportRowResult.class, ImportSummary.class,
+                        ImportRowResult.Status.class },
+                        access = { TypeAccess.DECLARED_CONSTRUCTORS, TypeAccess.PUBLIC_METHODS }),
+                // entities, mapped by field
+                @TypeHint(types = { User.class, RefreshToken.class, UserRecord.class },
+                        access = { TypeAccess.DECLARED_CONSTRUCTORS, TypeAccess.DECLARED_FIELDS,
+                                TypeAccess.DECLARED_METHODS }),
+                // second-level cache region factory, instantiated by name from hibernate.cache.region.factory_class
+                @TypeHint(typeNames = "org.hibernate.cache.jcache.internal.JCacheRegionFactory",
+                        access = TypeAccess.DECLARED_CONSTRUCTORS) },
+        jdkProxies = {
+                // shared @PersistenceContext EntityManager, unwrapped to a Session for natural-id lookups
+                @JdkProxyHint(types = { Session.class, EntityManagerProxy.class }) })
+public class NativeHints {
+}
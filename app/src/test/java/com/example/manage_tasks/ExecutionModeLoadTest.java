@@ -0,0 +1,122 @@
+package com.example.manage_tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.example.manage_tasks.utils.VirtualThreads;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Tag("load")
+class ExecutionModeLoadTest {
+    private static final int USERS = 500;
+
+    @Test
+    void compare_in_flight_requests_across_execution_modes(TestReporter reporter) throws Exception {
+        report(reporter, "platform", run(false));
+        if (VirtualThreads.isSupported())
+            report(reporter, "virtual", run(true));
+        else
+            reporter.publishEntry("virtual", "not supported on this JVM, skipped");
+    }
+
+    private void report(TestReporter reporter, String mode, int[] result) {
+        reporter.publishEntry(mode, String.format("%d signups + %d logins, max in-flight %d", USERS, USERS, result[0]));
+        assertEquals(2 * USERS, result[1], mode + " mode did not answer every request");
+    }
+
+    private int[] run(boolean virtualThreads) throws Exception {
+        InFlightCounter counter = new InFlightCounter();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ManageTasksApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("inFlightCounter", counter))
+                .properties("server.port=0",
+                        "execution.virtual_threads=" + virtualThreads,
+                        "server.tomcat.threads.max=16",
+                        "hashing.cost=4",
+                        "hashing.queue_capacity=" + (2 * USERS),
+                        "rate_limit.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads)
+                .run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newHttpClient();
+            int answered = fire(client, baseUrl + "/api/v1/users/signup") + fire(client, baseUrl + "/api/v1/users/login");
+            return new int[] { counter.max.get(), answered };
+        }
+    }
+
+    private int fire(HttpClient client, String url) {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String body = "{\"username\":\"user" + i + "\",\"password\":\"password" + i
+                    + "\",\"email\":\"user" + i + "@gmail.com\"}";
+            responses.add(client.sendAsync(HttpRequest.newBuilder(URI.create(url))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.discarding()));
+        }
+        return (int) responses.stream()
+                .map(CompletableFuture::join)
+                .filter(response -> response.statusCode() < 500 || response.statusCode() == 503)
+                .count();
+    }
+
+    static class InFlightCounter extends OncePerRequestFilter {
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain filterChain) throws ServletException, IOException {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (request.isAsyncStarted())
+                    request.getAsyncContext().addListener(new DecrementOnCompletion());
+                else
+                    current.decrementAndGet();
+            }
+        }
+
+        private class DecrementOnCompletion implements AsyncListener {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                current.decrementAndGet();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.manage_tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.manage_tasks.repositories.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.TransactionManager;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+@SpringBootTest
+class ManageTasksApplicationTests {
+	@Autowired
+	private ApplicationContext context;
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void contextLoads() {
+	}
+
+	@Test
+	void should_start_servlet_mode_on_jdbc_without_r2dbc() {
+		assertTrue(userRepository.findByEmail("nobody@example.com").isEmpty());
+		assertEquals(0, context.getBeanNamesForType(ConnectionFactory.class).length);
+		assertEquals(1, context.getBeanNamesForType(TransactionManager.class).length);
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.example.manage_tasks.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.repositories.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary",
+        "datasource.replica.url=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "users.cache.enabled=false" })
+class RoutingDataSourceTest {
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private UserRepository userRepository;
+    @Autowired @Qualifier("primaryDataSource") private DataSource primaryDataSource;
+    @Autowired @Qualifier("replicaDataSource") private DataSource replicaDataSource;
+
+    private String database(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+    }
+
+    @Test
+    void should_route_read_only_transactions_to_the_replica() {
+        assertTrue("routing_replica".equalsIgnoreCase(database(true)));
+        assertTrue("routing_primary".equalsIgnoreCase(database(false)));
+    }
+
+    @Test
+    void should_look_up_users_on_the_replica_and_write_to_the_primary() {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        List<String> schema = primary.queryForList("script nodata", String.class);
+        if (replica.queryForObject("select count(*) from information_schema.tables where table_name = 'USR_TBL'",
+                Integer.class) == 0)
+            schema.forEach(replica::execute);
+
+        User user = userRepository.save(new User("ayush", "123456", "routed@gmail.com"));
+        assertEquals(1, primary.queryForObject("select count(*) from usr_tbl where email = 'routed@gmail.com'",
+                Integer.class));
+        assertTrue(userRepository.findByEmail("routed@gmail.com").isEmpty());
+        assertTrue(userRepository.findById(user.getUserId()).isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.manage_tasks.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.servlet.http.Cookie;
+import javax.sql.DataSource;
+
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.repositories.UserRepository;
+import com.example.manage_tasks.services.UserService;
+import com.example.manage_tasks.utils.JwtUtils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({ "dev", "verifier" })
+class VerifierModeTest {
+    @Autowired private ApplicationContext context;
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtUtils jwtUtils;
+
+    @Test
+    void should_start_without_datasource_or_user_beans() {
+        assertEquals(0, context.getBeanNamesForType(DataSource.class).length);
+        assertEquals(0, context.getBeanNamesForType(UserRepository.class).length);
+        assertEquals(0, context.getBeanNamesForType(UserService.class).length);
+    }
+
+    @Test
+    void should_verify_tokens_from_claims() throws Exception {
+        String token = jwtUtils.generateToken(new User("verifier", "", "verifier@example.com"));
+        mockMvc.perform(get("/actuator/metrics").cookie(new Cookie("token", token)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics").cookie(new Cookie("token", token + "x")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void should_not_serve_login() throws Exception {
+        mockMvc.perform(post("/api/v1/users/login").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isNotFound());
+    }
+}
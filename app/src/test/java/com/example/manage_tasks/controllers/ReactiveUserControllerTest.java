@@ -0,0 +1,81 @@
+package com.example.manage_tasks.controllers;
+
+import java.time.Duration;
+
+import com.example.manage_tasks.dto.UserDto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles({ "dev", "reactive" })
+class ReactiveUserControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void should_signup_then_login() {
+        UserDto userDto = new UserDto("reactive", "123456", "reactive@gmail.com");
+        webTestClient.post().uri("/api/v1/users/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(userDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectCookie().exists("token");
+        webTestClient.post().uri("/api/v1/users/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(userDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectCookie().exists("token");
+    }
+
+    @Test
+    void should_reject_duplicate_signup() {
+        UserDto userDto = new UserDto("reactive", "123456", "duplicate@gmail.com");
+        webTestClient.post().uri("/api/v1/users/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(userDto)
+                .exchange()
+                .expectStatus().isCreated();
+        webTestClient.post().uri("/api/v1/users/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(userDto)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void should_logout_and_clear_cookie() {
+        UserDto userDto = new UserDto("reactive", "123456", "logout@gmail.com");
+        String token = webTestClient.post().uri("/api/v1/users/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(userDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(Void.class)
+                .getResponseCookies().getFirst("token").getValue();
+        webTestClient.post().uri("/api/v1/users/logout")
+                .cookie("token", token)
+                .exchange()
+                .expectStatus().isNoContent()
+                .expectCookie().maxAge("token", Duration.ZERO);
+        webTestClient.get().uri("/api/v1/tasks")
+                .cookie("token", token)
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void should_reject_tampered_token() {
+        webTestClient.get().uri("/api/v1/tasks")
+                .cookie("token", "not.a.token")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.manage_tasks.controllers;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.Cookie;
+
+import com.example.manage_tasks.dto.TokenPair;
+import com.example.manage_tasks.dto.UserDto;
+import com.example.manage_tasks.exceptions.HashingRejectedException;
+import com.example.manage_tasks.exceptions.UserAlreadyExistsException;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.services.UserService;
+import com.example.manage_tasks.utils.JwtUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+// every MockMvc request comes from 127.0.0.1; only the per-email limit is under test here
+@SpringBootTest(properties = "rate_limit.ip.burst=1000")
+@AutoConfigureMockMvc
+@ExtendWith(MockitoExtension.class)
+class UserControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private UserService userService;
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void should_signup_successfully() throws Exception {
+        UserDto userDto = new UserDto("test", "test", "test@gmail.com");
+        when(userService.signup(userDto)).thenReturn(CompletableFuture.completedFuture(new TokenPair("test", "refresh")));
+        mockMvc.perform(asyncDispatch(perform("/api/v1/users/signup", userDto)))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists("token"))
+                .andExpect(cookie().value("token", "test"));
+    }
+
+    @Test
+    void should_not_signup_successfully_invalid_credentials() throws Exception {
+        UserDto userDto = new UserDto("test", "test", "test@gmail.com");
+        UserDto fake = new UserDto("fake", "fake", "fake@gmail.com");
+        when(userService.signup(userDto)).thenReturn(CompletableFuture.completedFuture(new TokenPair("test", "refresh")));
+        when(userService.signup(fake)).thenReturn(CompletableFuture.completedFuture(null));
+        mockMvc.perform(asyncDispatch(perform("/api/v1/users/signup", fake)))
+                .andExpect(status().isBadRequest())
+                .andExpect(cookie().doesNotExist("token"));
+    }
+    @Test
+    void should_login_successfully() throws Exception {
+        UserDto userDto = new UserDto("test", "test", "test@gmail.com");
+        when(userService.login(userDto)).thenReturn(CompletableFuture.completedFuture(new TokenPair("test", "refresh")));
+        mockMvc.perform(asyncDispatch(perform("/api/v1/users/login", userDto)))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists("token"))
+                .andExpect(cookie().value("token", "test"));
+    }
+    @Test
+    void should_not_login_successfully() throws Exception {
+        UserDto userDto = new UserDto("test", "test", "test@gmail.com");
+        UserDto fake = new UserDto("fake", "fake", "fake@gmail.com");
+        when(userService.login(userDto)).thenReturn(CompletableFuture.completedFuture(new TokenPair("test", "refresh")));
+        when(userService.signup(fake)).thenReturn(CompletableFuture.completedFuture(null));
+        mockMvc.perform(asyncDispatch(perform("/api/v1/users/signup", fake)))
+                .andExpect(status().isBadRequest())
+                .andExpect(cookie().doesNotExist("token"));
+    }
+    @Test
+    void should_reject_login_when_hashing_queue_is_full() throws Exception {
+        UserDto userDto = new UserDto("test", "test", "test@gmail.com");
+        when(userService.login(userDto)).thenReturn(CompletableFuture.failedFuture(new HashingRejectedException()));
+        mockMvc.perform(asyncDispatch(perform("/api/v1/users/login", userDto)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(cookie().doesNotExist("token"));
+    }
+
+    @Test
+    void should_answer_conflict_for_duplicate_signup() throws Exception {
+        UserDto userDto = new UserDto("test", "test", "test@gmail.com");
+        when(userService.signup(userDto)).thenReturn(CompletableFuture.failedFuture(new UserAlreadyExistsException()));
+        mockMvc.perform(asyncDispatch(perform("/api/v1/users/signup", userDto)))
+                .andExpect(status().isConflict())
+                .andExpect(cookie().doesNotExist("token"));
+    }
+
+    @Test
+    void should_rate_limit_login_attempts_per_email() throws Exception {
+        UserDto userDto = new UserDto("test", "wrong", "limited@gmail.com");
+        when(userService.login(userDto)).thenReturn(CompletableFuture.completedFuture(null));
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(asyncDispatch(perform("/api/v1/users/login", userDto)))
+                    .andExpect(status().isBadRequest());
+        }
+        mockMvc.perform(post("/api/v1/users/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(userDto)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        verify(userService, times(5)).login(userDto);
+    }
+
+    @Test
+    void should_logout_and_clear_cookie() throws Exception {
+        mockMvc.perform(post("/api/v1/users/logout"))
+                .andExpect(status().isNoContent())
+                .andExpect(cookie().maxAge("token", 0));
+        verify(userService).logout(null, null);
+    }
+
+    @Test
+    void should_rotate_refresh_token() throws Exception {
+        when(userService.refresh("old")).thenReturn(new TokenPair("test", "refresh"));
+        mockMvc.perform(post("/api/v1/users/refresh").cookie(new Cookie("refresh_token", "old")))
+                .andExpect(status().isOk())
+                .andExpect(cookie().value("token", "test"))
+                .andExpect(cookie().value("refresh_token", "refresh"))
+                .andExpect(cookie().path("refresh_token", "/api/v1/users"));
+    }
+
+    @Test
+    void should_refresh_with_stale_access_cookie() throws Exception {
+        when(userService.refresh("old")).thenReturn(new TokenPair("test", "refresh"));
+        mockMvc.perform(post("/api/v1/users/refresh")
+                .cookie(new Cookie("token", "expired"), new Cookie("refresh_token", "old")))
+                .andExpect(status().isOk())
+                .andExpect(cookie().value("token", "test"))
+                .andExpect(cookie().maxAge("token", 900));
+    }
+
+    @Test
+    void should_reject_unknown_refresh_token() throws Exception {
+        mockMvc.perform(post("/api/v1/users/refresh").cookie(new Cookie("refresh_token", "reused")))
+                .andExpect(status().isUnauthorized())
+                .andExpect(cookie().maxAge("refresh_token", 0));
+    }
+
+    @Test
+    void should_not_revoke_all_for_anonymous_user() throws Exception {
+        mockMvc.perform(post("/api/v1/users/revoke-all"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void should_reject_junk_token_with_cleared_cookie() throws Exception {
+        mockMvc.perform(post("/api/v1/users/revoke-all").cookie(new Cookie("token", "junk")))
+                .andExpect(status().isUnauthorized())
+                .andExpect(cookie().maxAge("token", 0));
+    }
+
+    @Test
+    void should_reject_csv_import_without_email_column() throws Exception {
+        mockMvc.perform(post("/api/v1/users/import")
+                .cookie(adminCookie())
+                .contentType("text/csv")
+                .content("username,password\nayush,123456\n"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_stream_import_results() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/users/import")
+                .cookie(adminCookie())
+                .contentType("application/x-ndjson")
+                .content("{\"username\":\"a\",\"password\":\"123456\",\"email\":\"not-an-email\"}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"reason\":\"invalid email\"")));
+    }
+
+    @Test
+    void should_describe_caller_from_token() throws Exception {
+        mockMvc.perform(get("/api/v1/users/me").cookie(adminCookie()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(1))
+                .andExpect(jsonPath("$.email").value("admin@gmail.com"))
+                .andExpect(jsonPath("$.roles").value("ADMIN"));
+        mockMvc.perform(get("/api/v1/users/me"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private Cookie adminCookie() {
+        User admin = new User("admin", "123456", "admin@gmail.com");
+        admin.setUserId(1L);
+        admin.setRoles("ADMIN");
+        return new Cookie("token", jwtUtils.generateToken(admin));
+    }
+
+    private MvcResult perform(String url, UserDto userDto) throws Exception {
+        return mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(userDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String asJsonString(Object obj) throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper();
+        return mapper.writeValueAsString(obj);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.manage_tasks.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class EmailMigrationTest {
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:email_migration;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    private void migrate(String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common")
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void should_lower_case_stored_emails_except_collisions() {
+        migrate("1");
+        jdbcTemplate.update("insert into usr_tbl (user_id, email) values (1, 'Mixed.Case@Example.com')");
+        jdbcTemplate.update("insert into usr_tbl (user_id, email) values (2, 'dup@example.com')");
+        jdbcTemplate.update("insert into usr_tbl (user_id, email) values (3, 'DUP@example.com')");
+        migrate("2");
+        List<String> emails = jdbcTemplate.queryForList("select email from usr_tbl order by user_id", String.class);
+        assertEquals(List.of("mixed.case@example.com", "dup@example.com", "DUP@example.com"), emails);
+    }
+}
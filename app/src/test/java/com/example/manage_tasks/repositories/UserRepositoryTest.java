@@ -0,0 +1,52 @@
+package com.example.manage_tasks.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.persistence.EntityManagerFactory;
+
+import com.example.manage_tasks.models.User;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryTest {
+    @Autowired private UserRepository underTest;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void should_serve_repeat_lookups_from_cache() {
+        underTest.save(new User("ayush", "123456", "cached@gmail.com"));
+        underTest.findByEmail("cached@gmail.com").orElseThrow();
+        long queries = statistics.getPrepareStatementCount();
+        underTest.findByEmail("cached@gmail.com").orElseThrow();
+        assertTrue(underTest.existsByEmail("cached@gmail.com"));
+        assertEquals(queries, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() >= 2);
+        assertFalse(underTest.existsByEmail("missing@gmail.com"));
+    }
+
+    @Test
+    void should_see_updates_after_save() {
+        User user = underTest.save(new User("ayush", "123456", "updated@gmail.com"));
+        underTest.findByEmail("updated@gmail.com").orElseThrow();
+        user.setPassword("rehashed");
+        underTest.save(user);
+        User cached = underTest.findByEmail("updated@gmail.com").orElseThrow();
+        assertEquals("rehashed", cached.getPassword());
+        assertEquals(user.getUpdatedAt(), cached.getUpdatedAt());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.manage_tasks.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import com.example.manage_tasks.dto.TokenPair;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.repositories.UserRepository;
+import com.example.manage_tasks.utils.JwtUtils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.jsonwebtoken.JwtException;
+
+@SpringBootTest
+class RefreshTokenServiceTest {
+    @Autowired private RefreshTokenService underTest;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtUtils jwtUtils;
+    @Autowired private UserService userService;
+
+    private User user(String email) {
+        return userRepository.save(new User("ayush", "123456", email));
+    }
+
+    @Test
+    void should_rotate_refresh_token() {
+        String issued = underTest.issue(user("rotate@gmail.com"));
+        TokenPair rotated = underTest.rotate(issued);
+        assertNotNull(rotated);
+        assertNotNull(rotated.getAccessToken());
+        assertNotEquals(issued, rotated.getRefreshToken());
+        assertNotNull(underTest.rotate(rotated.getRefreshToken()));
+    }
+
+    @Test
+    void should_revoke_family_when_used_token_is_replayed() {
+        String issued = underTest.issue(user("reuse@gmail.com"));
+        TokenPair rotated = underTest.rotate(issued);
+        assertNull(underTest.rotate(issued));
+        assertNull(underTest.rotate(rotated.getRefreshToken()));
+    }
+
+    @Test
+    void should_keep_login_issued_right_after_reuse_detection() throws InterruptedException {
+        User user = user("relogin@gmail.com");
+        String issued = underTest.issue(user);
+        TokenPair rotated = underTest.rotate(issued);
+        Thread.sleep(2);
+        assertNull(underTest.rotate(issued));
+        Thread.sleep(2);
+        String access = jwtUtils.generateToken(user);
+        String refresh = underTest.issue(user);
+        assertThrows(JwtException.class, () -> jwtUtils.verify(rotated.getAccessToken()));
+        assertEquals(user.getUserId(), jwtUtils.verify(access).getUserId());
+        assertNotNull(underTest.rotate(refresh));
+    }
+
+    @Test
+    void should_not_rotate_after_logout() {
+        String issued = underTest.issue(user("refresh-logout@gmail.com"));
+        underTest.revoke(issued);
+        assertNull(underTest.rotate(issued));
+        assertNull(underTest.rotate("unknown"));
+    }
+
+    @Test
+    void should_not_rotate_after_revoke_all() {
+        User user = user("refresh-revoke-all@gmail.com");
+        String issued = underTest.issue(user);
+        assertTrue(userService.revokeAll(jwtUtils.verify(jwtUtils.generateToken(user))));
+        assertNull(underTest.rotate(issued));
+    }
+
+    @Test
+    void should_not_rotate_refresh_tokens_issued_before_revoke_all_cutoff() throws InterruptedException {
+        User user = user("refresh-cutoff@gmail.com");
+        String issued = underTest.issue(user);
+        Thread.sleep(2);
+        jwtUtils.revokeAllBefore(user.getUserId(), Instant.now());
+        Thread.sleep(2);
+        String reissued = underTest.issue(user);
+        assertNull(underTest.rotate(issued));
+        assertNotNull(underTest.rotate(reissued));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.manage_tasks.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.example.manage_tasks.dto.TokenPair;
+import com.example.manage_tasks.dto.UserDto;
+import com.example.manage_tasks.exceptions.UserAlreadyExistsException;
+import com.example.manage_tasks.repositories.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class SignupConcurrencyTest {
+    private static final int SIGNUPS = 16;
+    @Autowired private UserService underTest;
+    @Autowired private UserRepository repository;
+
+    @Test
+    void should_create_exactly_one_user_for_concurrent_duplicate_signups() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(SIGNUPS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<CompletableFuture<TokenPair>>> signups = new ArrayList<>();
+        for (int i = 0; i < SIGNUPS; i++) {
+            UserDto userDto = new UserDto("racer" + i, "123456", "Racer@gmail.com");
+            signups.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return underTest.signup(userDto);
+            }, callers));
+        }
+        start.countDown();
+
+        int created = 0;
+        int conflicts = 0;
+        for (CompletableFuture<CompletableFuture<TokenPair>> signup : signups) {
+            try {
+                assertTrue(signup.join().join().getAccessToken() != null);
+                created++;
+            } catch (CompletionException e) {
+                assertInstanceOf(UserAlreadyExistsException.class, e.getCause());
+                conflicts++;
+            }
+        }
+        callers.shutdown();
+        assertTrue(callers.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1, created);
+        assertEquals(SIGNUPS - 1, conflicts);
+        assertTrue(repository.existsByEmail("racer@gmail.com"));
+    }
+}
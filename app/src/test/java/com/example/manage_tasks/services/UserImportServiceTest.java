@@ -0,0 +1,78 @@
+package com.example.manage_tasks.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.example.manage_tasks.dto.ImportRowResult;
+import com.example.manage_tasks.dto.ImportRowResult.Status;
+import com.example.manage_tasks.dto.ImportSummary;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.repositories.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@SpringBootTest(properties = "import.batch_size=2")
+class UserImportServiceTest {
+    @Autowired private UserImportService underTest;
+    @Autowired private UserRepository repository;
+    @Autowired private PasswordEncoder passwordEncoder;
+
+    private final List<ImportRowResult> results = new ArrayList<>();
+
+    private ImportSummary importUsers(String body, boolean csv, long skip) throws IOException {
+        return underTest.importUsers(new BufferedReader(new StringReader(body)), csv, skip, results::add);
+    }
+
+    @Test
+    void should_report_a_result_per_json_line() throws IOException {
+        repository.save(new User("taken", "123456", "taken@import.com"));
+        ImportSummary summary = importUsers(
+                "{\"username\":\"a\",\"password\":\"123456\",\"email\":\"A@import.com\"}\n"
+                        + "{\"username\":\"b\",\"password\":\"123456\",\"email\":\"not-an-email\"}\n"
+                        + "\n"
+                        + "{\"username\":\"c\",\"password\":\"123456\",\"email\":\"taken@import.com\"}\n"
+                        + "{\"username\":\"d\",\"password\":\"123456\",\"email\":\"a@import.com\"}\n"
+                        + "{broken\n",
+                false, 0);
+
+        assertEquals(List.of(Status.IMPORTED, Status.INVALID, Status.DUPLICATE, Status.DUPLICATE, Status.INVALID),
+                results.stream().map(ImportRowResult::getStatus).collect(Collectors.toList()));
+        assertEquals(List.of(1L, 2L, 4L, 5L, 6L),
+                results.stream().map(ImportRowResult::getLine).collect(Collectors.toList()));
+        assertEquals(1, summary.getImported());
+        assertEquals(2, summary.getDuplicates());
+        assertEquals(2, summary.getInvalid());
+        assertEquals(6, summary.getLastCommittedLine());
+        assertNull(summary.getError());
+        User imported = repository.findByEmail("a@import.com").orElseThrow();
+        assertTrue(passwordEncoder.matches("123456", imported.getPassword()));
+    }
+
+    @Test
+    void should_import_csv_and_resume_after_skipped_lines() throws IOException {
+        String csv = "email,username,password\n"
+                + "first@import.com,first,123456\n"
+                + "\"second@import.com\",\"Second, Jr\",\"12\"\"3456\"\n"
+                + "third@import.com,third,123456\n";
+        ImportSummary summary = importUsers(csv, true, 1);
+
+        assertEquals(2, summary.getImported());
+        assertEquals(3, summary.getLastCommittedLine());
+        assertEquals(2L, results.get(0).getLine());
+        assertTrue(repository.findByEmail("first@import.com").isEmpty());
+        User second = repository.findByEmail("second@import.com").orElseThrow();
+        assertEquals("Second, Jr", second.getName());
+        assertTrue(passwordEncoder.matches("12\"3456", second.getPassword()));
+    }
+}
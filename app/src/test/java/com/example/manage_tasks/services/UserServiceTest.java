@@ -0,0 +1,165 @@
+package com.example.manage_tasks.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.example.manage_tasks.dto.TokenPair;
+import com.example.manage_tasks.dto.UserDto;
+import com.example.manage_tasks.exceptions.UserAlreadyExistsException;
+import com.example.manage_tasks.exceptions.UserNotFoundException;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.repositories.UserRepository;
+import com.example.manage_tasks.utils.JwtUtils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@SpringBootTest
+class UserServiceTest {
+    @MockBean private UserRepository repository;
+    @MockBean private JwtUtils jwtUtils;
+    @MockBean private PasswordEncoder passwordEncoder;
+    @MockBean private RefreshTokenService refreshTokenService;
+    @Autowired private UserService underTest;
+    @Test
+    void should_login() {
+        UserDto userDto=new UserDto("ayush","123456","ayush@gmail.com");
+        User user=new User("ayush", "123456", "ayush@gmail.com");
+        when(passwordEncoder.matches("123456", "123456")).thenReturn(true);
+        when(repository.findByEmail(userDto.getEmail())).thenReturn(Optional.of(user));
+        when(jwtUtils.generateToken(user)).thenReturn("token");
+        when(refreshTokenService.issue(user)).thenReturn("refresh");
+        TokenPair token=underTest.login(userDto).join();
+        verify(repository).findByEmail(userDto.getEmail());
+        assertEquals( "token",token.getAccessToken());
+        assertEquals( "refresh",token.getRefreshToken());
+    }
+    @Test
+    void should_look_up_login_user_off_the_calling_thread() {
+        UserDto userDto=new UserDto("ayush","123456","ayush@gmail.com");
+        User user=new User("ayush", "123456", "ayush@gmail.com");
+        Thread caller=Thread.currentThread();
+        AtomicReference<Thread> lookupThread=new AtomicReference<>();
+        when(passwordEncoder.matches("123456", "123456")).thenReturn(true);
+        when(repository.findByEmail(userDto.getEmail())).thenAnswer(invocation -> {
+            lookupThread.set(Thread.currentThread());
+            return Optional.of(user);
+        });
+        underTest.login(userDto).join();
+        assertNotSame(caller, lookupThread.get());
+    }
+    @Test
+    void should_fail_login_of_unknown_user_asynchronously() {
+        UserDto userDto=new UserDto("ayush","123456","unknown@gmail.com");
+        when(repository.findByEmail(userDto.getEmail())).thenReturn(Optional.empty());
+        CompletionException e=assertThrows(CompletionException.class, () -> underTest.login(userDto).join());
+        assertInstanceOf(UserNotFoundException.class, e.getCause());
+    }
+    @Test
+    void should_rehash_outdated_password_on_login() {
+        UserDto userDto=new UserDto("ayush","123456","ayush@gmail.com");
+        User user=new User("ayush", "123456", "ayush@gmail.com");
+        when(passwordEncoder.matches("123456", "123456")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("123456")).thenReturn(true);
+        when(passwordEncoder.encode("123456")).thenReturn("upgraded");
+        when(repository.findByEmail(userDto.getEmail())).thenReturn(Optional.of(user));
+        underTest.login(userDto).join();
+        verify(repository, timeout(1000)).save(argThat(saved -> "upgraded".equals(saved.getPassword())));
+    }
+    @Test
+    void should_not_login_invalid_passwd() {
+        UserDto userDto=new UserDto("ayush","23456","ayush@gmail.com");
+        User user=new User("ayush", "12345", "ayush@gmail.com");
+        when(passwordEncoder.matches("123456", "123456")).thenReturn(true);
+        when(repository.findByEmail(userDto.getEmail())).thenReturn(Optional.of(user));
+        when(jwtUtils.generateToken(user)).thenReturn("token");
+        TokenPair token=underTest.login(userDto).join();
+        assertNull(token);
+    }
+    @Test
+    void should_not_login_invalid_email() {
+        UserDto userDto=new UserDto("ayush","123456","ayushgmail.com");
+        User user=new User("ayush", "123456", "ayushgmail.com");
+        when(passwordEncoder.matches("123456", "123456")).thenReturn(true);
+        when(repository.findByEmail(userDto.getEmail())).thenReturn(Optional.of(user));
+        when(jwtUtils.generateToken(user)).thenReturn("token");
+        TokenPair token=underTest.login(userDto).join();
+        verify(repository,never()).findByEmail(userDto.getEmail());
+        assertNull(token);
+    }
+
+    @Test
+    void should_signup() {
+        UserDto userDto=new UserDto("ayush","123456","ayush@gmail.com");
+        User user=new User("ayush", "123456", "ayush@gmail.com");
+        when(passwordEncoder.encode("123456")).thenReturn("123456");
+        when(jwtUtils.generateToken(user)).thenReturn("token");
+        TokenPair token=underTest.signup(userDto).join();
+        verify(repository, never()).existsByEmail("ayush@gmail.com");
+        verify(repository).saveAndFlush(user);
+        verify(refreshTokenService).issue(user);
+        assertEquals("token", token.getAccessToken());
+    }
+    
+    @Test
+    void should_signup_without_password_policy() {
+        // signup only hashes the password; there is no strength check that could reject it
+        UserDto userDto = new UserDto("ayush", "23456", "ayush@gmail.com");
+        User user = new User("ayush", "hashed", "ayush@gmail.com");
+        when(passwordEncoder.encode("23456")).thenReturn("hashed");
+        when(jwtUtils.generateToken(user)).thenReturn("token");
+        TokenPair token=underTest.signup(userDto).join();
+        verify(repository).saveAndFlush(user);
+        assertEquals("token", token.getAccessToken());
+    }
+
+    @Test
+    void should_not_signup_invalid_email() {
+        UserDto userDto = new UserDto("ayush", "123456", "ayushgmail.com");
+        User user = new User("ayush", "123456", "ayushgmail.com");
+        when(passwordEncoder.matches("123456", "123456")).thenReturn(true);
+        when(jwtUtils.generateToken(user)).thenReturn("token");
+        TokenPair token=underTest.signup(userDto).join();
+        verify(repository, never()).saveAndFlush(any());
+        assertNull(token);
+    }
+    @Test
+    void should_not_signup_invalid_similar_user_exists() {
+        UserDto userDto = new UserDto("ayush", "123456", "ayush@gmail.com");
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        when(passwordEncoder.encode("123456")).thenReturn("123456");
+        when(repository.saveAndFlush(user)).thenThrow(new DataIntegrityViolationException(
+                "Unique index or primary key violation: \"PUBLIC.UK_USR_TBL_EMAIL_INDEX_8 ON PUBLIC.USR_TBL(EMAIL)\""));
+        when(jwtUtils.generateToken(user)).thenReturn("token");
+        CompletionException e = assertThrows(CompletionException.class, () -> underTest.signup(userDto).join());
+        assertInstanceOf(UserAlreadyExistsException.class, e.getCause());
+        verify(refreshTokenService, never()).issue(any());
+    }
+    @Test
+    void should_not_hide_other_integrity_violations_as_conflict() {
+        UserDto userDto = new UserDto("ayush", "123456", "ayush@gmail.com");
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        when(passwordEncoder.encode("123456")).thenReturn("123456");
+        when(repository.saveAndFlush(user))
+                .thenThrow(new DataIntegrityViolationException("NULL not allowed for column \"USER_ID\""));
+        CompletionException e = assertThrows(CompletionException.class, () -> underTest.signup(userDto).join());
+        assertInstanceOf(DataIntegrityViolationException.class, e.getCause());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuthMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void should_record_only_sampled_timings() {
+        AuthMetrics always = new AuthMetrics(registry, 1.0);
+        always.stop(always.getVerifyTimer(), always.start());
+        assertEquals(1, always.getVerifyTimer().count());
+
+        AuthMetrics never = new AuthMetrics(new SimpleMeterRegistry(), 0.0);
+        never.stop(never.getVerifyTimer(), never.start());
+        assertEquals(0, never.getVerifyTimer().count());
+    }
+
+    @Test
+    void should_count_rejections_by_reason() {
+        AuthMetrics underTest = new AuthMetrics(registry, 0.0);
+        underTest.rejected("expired");
+        underTest.rejected("expired");
+        underTest.rejected("signature");
+        assertEquals(2, registry.get("auth.token.rejected").tag("reason", "expired").counter().count());
+        assertEquals(1, registry.get("auth.token.rejected").tag("reason", "signature").counter().count());
+    }
+}
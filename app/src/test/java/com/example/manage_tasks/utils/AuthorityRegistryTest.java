@@ -0,0 +1,38 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.manage_tasks.models.AuthoritySet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class AuthorityRegistryTest {
+    @Test
+    void should_reuse_parsed_sets_and_authorities() {
+        AuthoritySet first = AuthorityRegistry.of("USER,ADMIN");
+        assertSame(first, AuthorityRegistry.of("USER,ADMIN"));
+        assertSame(first.getAuthorities().get(0), AuthorityRegistry.of("USER").getAuthorities().get(0));
+        assertEquals(new SimpleGrantedAuthority("ADMIN"), first.getAuthorities().get(1));
+        assertSame(AuthorityRegistry.NONE, AuthorityRegistry.of(null));
+    }
+
+    @Test
+    void should_check_roles_by_bit() {
+        AuthoritySet set = AuthorityRegistry.of("USER, ADMIN,USER");
+        assertEquals(2, set.getAuthorities().size());
+        assertTrue(set.contains(AuthorityRegistry.bitOf("ADMIN")));
+        assertFalse(set.contains(AuthorityRegistry.bitOf("NONE")));
+        assertTrue(set.containsAll(AuthorityRegistry.of("ADMIN")));
+    }
+
+    @Test
+    void should_expose_immutable_authorities() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> AuthorityRegistry.NONE.getAuthorities().clear());
+    }
+}
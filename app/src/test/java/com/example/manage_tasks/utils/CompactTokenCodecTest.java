@@ -0,0 +1,61 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.example.manage_tasks.models.User;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.SignatureException;
+
+class CompactTokenCodecTest {
+    private final CompactTokenCodec underTest = new CompactTokenCodec(
+            new SigningKeyRegistry("gttyvitvuntcutfbcitfctnvtnvvtntvtntyiit", "", "", new TokenCache(false, 100)),
+            new String[] { "NONE", "USER", "ADMIN" });
+
+    private User user(String roles) {
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        user.setUserId(42L);
+        user.setRoles(roles);
+        return user;
+    }
+
+    @Test
+    void should_round_trip_user_id_roles_and_expiry() {
+        Instant issuedAt = Instant.now();
+        Instant expiresAt = issuedAt.plusSeconds(900);
+        String token = underTest.encode(user("USER,ADMIN"), issuedAt, expiresAt);
+        assertTrue(underTest.isCompact(token));
+        TokenPrincipal principal = underTest.decode(token);
+        assertEquals(42L, principal.getUserId());
+        assertNull(principal.getEmail());
+        assertSame(AuthorityRegistry.of("USER,ADMIN"), principal.getAuthoritySet());
+        assertEquals(expiresAt.getEpochSecond(), principal.getExpiresAt().getEpochSecond());
+        assertEquals(issuedAt.toEpochMilli(), principal.getIssuedAt().toEpochMilli());
+    }
+
+    @Test
+    void should_reject_tampered_and_expired_tokens() {
+        String token = underTest.encode(user("USER"), Instant.now(), Instant.now().plusSeconds(900));
+        char flipped = token.charAt(5) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, 5) + flipped + token.substring(6);
+        assertThrows(SignatureException.class, () -> underTest.decode(tampered));
+
+        String expired = underTest.encode(user("USER"), Instant.now().minusSeconds(20), Instant.now().minusSeconds(10));
+        assertThrows(ExpiredJwtException.class, () -> underTest.decode(expired));
+    }
+
+    @Test
+    void should_refuse_roles_without_a_wire_bit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> underTest.encode(user("AUDITOR"), Instant.now(), Instant.now().plusSeconds(900)));
+    }
+}
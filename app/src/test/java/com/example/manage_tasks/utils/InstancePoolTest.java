@@ -0,0 +1,42 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class InstancePoolTest {
+    private final AtomicInteger created = new AtomicInteger();
+    private final InstancePool<Object> underTest = new InstancePool<>(() -> {
+        created.incrementAndGet();
+        return new Object();
+    }, 2);
+
+    @Test
+    void should_reuse_released_instances_across_threads() throws Exception {
+        Object first = underTest.acquire();
+        underTest.release(first);
+        Object[] seen = new Object[1];
+        Thread thread = new Thread(() -> seen[0] = underTest.acquire());
+        thread.start();
+        thread.join();
+        assertSame(first, seen[0]);
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void should_create_when_empty_and_drop_beyond_capacity() {
+        Object a = underTest.acquire();
+        Object b = underTest.acquire();
+        Object c = underTest.acquire();
+        assertNotSame(a, b);
+        assertEquals(3, created.get());
+        underTest.release(a);
+        underTest.release(b);
+        underTest.release(c);
+        assertEquals(2, underTest.idle());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.example.manage_tasks.models.User;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.jsonwebtoken.JwtException;
+
+@SpringBootTest
+class JwtUtilsTest {
+    @Autowired
+    private JwtUtils underTest;
+    @Autowired
+    private CompactTokenCodec compactTokenCodec;
+
+    @Test
+    void should_verify_generated_token() {
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        String token = underTest.generateToken(user);
+        TokenPrincipal principal = underTest.verify(token);
+        assertEquals("ayush@gmail.com", principal.getEmail());
+        assertEquals("ayush", principal.getUsername());
+        assertEquals("NONE", principal.getAuthorities().get(0).getAuthority());
+        assertFalse(principal.isExpired());
+    }
+
+    @Test
+    void should_verify_compact_token() {
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        user.setUserId(7L);
+        String token = compactTokenCodec.encode(user, Instant.now(), Instant.now().plusSeconds(60));
+        TokenPrincipal principal = underTest.verify(token);
+        assertEquals(7L, principal.getUserId());
+        assertEquals("NONE", principal.getAuthorities().get(0).getAuthority());
+    }
+
+    private JwtUtils compactJwtUtils(String... roles) {
+        SigningKeyRegistry registry = new SigningKeyRegistry("gttyvitvuntcutfbcitfctnvtnvvtntvtntyiit", "", "",
+                new TokenCache(false, 100));
+        CompactTokenCodec codec = new CompactTokenCodec(registry, roles);
+        return new JwtUtils(new TokenCache(false, 100), codec, new TokenDenylist(1 << 10, 900_000, "", "issuer"),
+                registry, new TokenPrecheck(codec, 4096), 900_000, JwtUtils.COMPACT_FORMAT);
+    }
+
+    @Test
+    void should_refuse_compact_format_without_built_in_roles() {
+        assertThrows(IllegalStateException.class, () -> compactJwtUtils("NONE", "USER").checkCompactRoles());
+    }
+
+    @Test
+    void should_fall_back_to_jwt_for_users_compact_tokens_cannot_describe() {
+        JwtUtils compact = compactJwtUtils("NONE", "USER", "ADMIN");
+        compact.checkCompactRoles();
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        user.setUserId(7L);
+        String token = compact.generateToken(user);
+        assertTrue(compactTokenCodec.isCompact(token));
+        assertNull(compact.verify(token).getEmail());
+
+        user.setRoles("AUDITOR");
+        TokenPrincipal principal = compact.verify(compact.generateToken(user));
+        assertEquals("ayush@gmail.com", principal.getEmail());
+        assertEquals("AUDITOR", principal.getAuthorities().get(0).getAuthority());
+    }
+
+    @Test
+    void should_accept_a_login_right_after_revoke_all() throws InterruptedException {
+        User user = new User("ayush", "123456", "relogin@gmail.com");
+        user.setUserId(99L);
+        String before = underTest.generateToken(user);
+        Thread.sleep(2);
+        underTest.revokeAllBefore(99L, Instant.now());
+        String after = underTest.generateToken(user);
+        assertThrows(JwtException.class, () -> underTest.verify(before));
+        assertEquals(99L, underTest.verify(after).getUserId());
+
+        JwtUtils compact = compactJwtUtils("NONE", "USER", "ADMIN");
+        String compactBefore = compact.generateToken(user);
+        Thread.sleep(2);
+        compact.revokeAllBefore(99L, Instant.now());
+        String compactAfter = compact.generateToken(user);
+        assertThrows(JwtException.class, () -> compact.verify(compactBefore));
+        assertEquals(99L, compact.verify(compactAfter).getUserId());
+    }
+
+    @Test
+    void should_not_verify_tampered_token() {
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        String token = underTest.generateToken(user);
+        assertThrows(JwtException.class, () -> underTest.verify(token.substring(0, token.length() - 2)));
+    }
+}
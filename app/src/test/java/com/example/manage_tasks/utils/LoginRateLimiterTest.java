@@ -0,0 +1,51 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginRateLimiterTest {
+    @TempDir
+    Path directory;
+
+    private LoginRateLimiter limiter(String sharedPath) {
+        return new LoginRateLimiter(new AuthMetrics(new SimpleMeterRegistry(), 1.0), true, 60, 3, 60, 2, 1000,
+                60_000, sharedPath, 1024);
+    }
+
+    @Test
+    void should_allow_a_burst_then_reject_per_ip() {
+        LoginRateLimiter underTest = limiter("");
+        for (int i = 0; i < 3; i++)
+            assertEquals(LoginRateLimiter.ALLOWED, underTest.tryAcquire("10.0.0.1", "user" + i + "@gmail.com"));
+        long wait = underTest.tryAcquire("10.0.0.1", "other@gmail.com");
+        assertTrue(wait > 0 && wait <= 1000);
+        assertEquals(LoginRateLimiter.ALLOWED, underTest.tryAcquire("10.0.0.2", "other@gmail.com"));
+    }
+
+    @Test
+    void should_limit_an_email_across_client_ips() {
+        LoginRateLimiter underTest = limiter("");
+        assertEquals(LoginRateLimiter.ALLOWED, underTest.tryAcquire("10.0.0.1", "victim@gmail.com"));
+        assertEquals(LoginRateLimiter.ALLOWED, underTest.tryAcquire("10.0.0.2", "victim@gmail.com"));
+        assertTrue(underTest.tryAcquire("10.0.0.3", "victim@gmail.com") > 0);
+    }
+
+    @Test
+    void should_share_buckets_through_the_state_file() {
+        String path = directory.resolve("limits.bin").toString();
+        LoginRateLimiter first = limiter(path);
+        LoginRateLimiter second = limiter(path);
+        assertEquals(LoginRateLimiter.ALLOWED, first.tryAcquire("10.0.0.1", "shared@gmail.com"));
+        assertEquals(LoginRateLimiter.ALLOWED, second.tryAcquire("10.0.0.2", "shared@gmail.com"));
+        assertTrue(first.tryAcquire("10.0.0.3", "shared@gmail.com") > 0);
+        first.close();
+        second.close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordEncodersTest {
+    @Test
+    void should_match_and_upgrade_legacy_bcrypt_hashes() {
+        String legacy = new BCryptPasswordEncoder(4).encode("123456");
+        PasswordEncoder underTest = PasswordEncoders.delegating(PasswordEncoders.BCRYPT, 5);
+        assertTrue(underTest.matches("123456", legacy));
+        assertTrue(underTest.upgradeEncoding(legacy));
+        String current = underTest.encode("123456");
+        assertTrue(underTest.matches("123456", current));
+        assertFalse(underTest.upgradeEncoding(current));
+    }
+
+    @Test
+    void should_match_pbkdf2_hashes_across_iteration_counts() {
+        String old = PasswordEncoders.delegating(PasswordEncoders.PBKDF2, 10_000).encode("123456");
+        PasswordEncoder underTest = PasswordEncoders.delegating(PasswordEncoders.PBKDF2, 20_000);
+        assertTrue(underTest.matches("123456", old));
+        assertFalse(underTest.matches("654321", old));
+        assertTrue(underTest.upgradeEncoding(old));
+    }
+
+    @Test
+    void should_calibrate_to_minimum_cost_for_tiny_budget() {
+        assertEquals(4, PasswordEncoders.calibrate(PasswordEncoders.BCRYPT, 0));
+    }
+}
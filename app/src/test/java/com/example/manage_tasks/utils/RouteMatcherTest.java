@@ -0,0 +1,56 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import com.example.manage_tasks.utils.RouteMatcher.Route;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+class RouteMatcherTest {
+    private final RouteMatcher underTest = new RouteMatcher(List.of(
+            Route.any("/h2-console/**"),
+            Route.of(HttpMethod.GET, "/.well-known/jwks.json"),
+            Route.of(HttpMethod.POST, "/api/v1/users/login"),
+            Route.of(HttpMethod.GET, "/api/v1/*/public"),
+            Route.of(HttpMethod.GET, "/static/**/app.js"),
+            Route.of(HttpMethod.GET, "/users/{id}/avatar")));
+
+    @Test
+    void should_match_literal_routes_by_method() {
+        assertTrue(underTest.matches("POST", "/api/v1/users/login"));
+        assertFalse(underTest.matches("GET", "/api/v1/users/login"));
+        assertFalse(underTest.matches("POST", "/api/v1/users/login/extra"));
+        assertFalse(underTest.matches("POST", "/api/v1/users/logi"));
+        assertTrue(underTest.matches("GET", "/.well-known/jwks.json"));
+    }
+
+    @Test
+    void should_match_wildcards_like_ant_patterns() {
+        AntPathMatcher ant = new AntPathMatcher();
+        for (String path : List.of("/h2-console", "/h2-console/", "/h2-console/login.do", "/h2-console/a/b/c",
+                "/h2-consoles", "/api/v1/tasks/public", "/api/v1/public", "/api/v1/a/b/public",
+                "/static/app.js", "/static/js/app.js", "/static/js/lib/app.js", "/static/js/main.js",
+                "/users/42/avatar", "/users/avatar")) {
+            boolean expected = ant.match("/h2-console/**", path) || ant.match("/api/v1/*/public", path)
+                    || ant.match("/static/**/app.js", path) || ant.match("/users/{id}/avatar", path);
+            if (expected)
+                assertTrue(underTest.matches("GET", path), path);
+            else
+                assertFalse(underTest.matches("GET", path), path);
+        }
+    }
+
+    @Test
+    void should_reject_paths_and_patterns_it_cannot_handle() {
+        assertFalse(underTest.matches("GET", ""));
+        assertFalse(underTest.matches("GET", "h2-console"));
+        assertFalse(underTest.matches("BREW", "/h2-console"));
+        assertThrows(IllegalArgumentException.class, () -> new RouteMatcher(List.of(Route.any("/static/*.css"))));
+    }
+}
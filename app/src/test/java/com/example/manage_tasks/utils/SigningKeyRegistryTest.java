@@ -0,0 +1,256 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.example.manage_tasks.models.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+
+class SigningKeyRegistryTest {
+    private static final String DEFAULT_SECRET = "gttyvitvuntcutfbcitfctnvtnvvtntvtntyiit";
+    private static final String FIRST_SECRET = "c2VjcmV0LWtleS1vbmUtZm9yLXRlc3Rpbmctcm90YXRpb24=";
+    private static final String SECOND_SECRET = "c2VjcmV0LWtleS10d28tZm9yLXRlc3Rpbmctcm90YXRpb24=";
+    @TempDir
+    Path directory;
+
+    private User user() {
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        user.setUserId(42L);
+        user.setRoles("USER");
+        return user;
+    }
+
+    private JwtUtils jwtUtils(SigningKeyRegistry registry, String format) {
+        CompactTokenCodec codec = new CompactTokenCodec(registry, new String[] { "NONE", "USER" });
+        JwtUtils jwtUtils = new JwtUtils(new TokenCache(false, 100), codec,
+                new TokenDenylist(1 << 10, 900_000, "", "issuer"), registry, new TokenPrecheck(codec, 4096), 900_000,
+                format);
+        return jwtUtils;
+    }
+
+    private void writeKeys(Path store, String content, int version) throws IOException {
+        Files.writeString(store, content);
+        Files.setLastModifiedTime(store, FileTime.from(Instant.now().plusSeconds(version)));
+    }
+
+    @Test
+    void should_sign_with_default_secret_without_keystore() {
+        SigningKeyRegistry underTest = new SigningKeyRegistry(DEFAULT_SECRET, "", "", new TokenCache(false, 100));
+        underTest.load();
+        assertEquals(SigningKeyRegistry.DEFAULT_KID, underTest.active().getKid());
+        assertEquals(1, underTest.size());
+    }
+
+    @Test
+    void should_keep_verifying_tokens_of_retired_active_key() throws IOException {
+        Path store = directory.resolve("keys.properties");
+        writeKeys(store, "active=k1\nkey.k1=" + FIRST_SECRET + "\n", 1);
+        SigningKeyRegistry underTest = new SigningKeyRegistry(DEFAULT_SECRET, store.toString(), "",
+                new TokenCache(false, 100));
+        underTest.load();
+        JwtUtils jwt = jwtUtils(underTest, "jwt");
+        JwtUtils compact = jwtUtils(underTest, JwtUtils.COMPACT_FORMAT);
+        String jwtToken = jwt.generateToken(user());
+        String compactToken = compact.generateToken(user());
+
+        writeKeys(store, "active=k2\nkey.k1=" + FIRST_SECRET + "\nkey.k2=" + SECOND_SECRET + "\n", 2);
+        underTest.reload();
+        assertEquals("k2", underTest.active().getKid());
+        assertEquals(42L, jwt.verify(jwtToken).getUserId());
+        assertEquals(42L, compact.verify(compactToken).getUserId());
+        assertEquals(42L, jwt.verify(jwt.generateToken(user())).getUserId());
+
+        writeKeys(store, "active=k2\nkey.k2=" + SECOND_SECRET + "\n", 3);
+        underTest.reload();
+        assertThrows(SignatureException.class, () -> jwt.verify(jwtToken));
+        assertThrows(SignatureException.class, () -> compact.verify(compactToken));
+    }
+
+    @Test
+    void should_keep_verifying_default_key_tokens_after_enabling_keystore() throws IOException {
+        Path store = directory.resolve("keys.properties");
+        SigningKeyRegistry before = new SigningKeyRegistry(DEFAULT_SECRET, store.toString(), "",
+                new TokenCache(false, 100));
+        before.load();
+        String jwtToken = jwtUtils(before, "jwt").generateToken(user());
+        String compactToken = jwtUtils(before, JwtUtils.COMPACT_FORMAT).generateToken(user());
+        String kidless = Jwts.builder()
+                .claim("uid", 42L)
+                .claim("roles", "USER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 900_000))
+                .signWith(SignatureAlgorithm.HS256, DEFAULT_SECRET)
+                .compact();
+
+        writeKeys(store, "active=k1\nkey.k1=" + FIRST_SECRET + "\n", 1);
+        SigningKeyRegistry underTest = new SigningKeyRegistry(DEFAULT_SECRET, store.toString(), "",
+                new TokenCache(false, 100));
+        underTest.load();
+        JwtUtils jwt = jwtUtils(underTest, "jwt");
+        assertEquals("k1", underTest.active().getKid());
+        assertEquals(42L, jwt.verify(jwtToken).getUserId());
+        assertEquals(42L, jwt.verify(kidless).getUserId());
+        assertEquals(42L, jwtUtils(underTest, JwtUtils.COMPACT_FORMAT).verify(compactToken).getUserId());
+    }
+
+    @Test
+    void should_not_sign_with_retained_default_key() throws IOException {
+        Path store = directory.resolve("keys.properties");
+        writeKeys(store, "active=default\nkey.k1=" + FIRST_SECRET + "\n", 1);
+        SigningKeyRegistry underTest = new SigningKeyRegistry(DEFAULT_SECRET, store.toString(), "",
+                new TokenCache(false, 100));
+        assertThrows(IllegalStateException.class, underTest::load);
+
+        writeKeys(store, "active=default\nkey.default=" + FIRST_SECRET + "\n", 2);
+        underTest.load();
+        assertEquals(SigningKeyRegistry.DEFAULT_KID, underTest.active().getKid());
+    }
+
+    @Test
+    void should_keep_current_keys_when_keystore_is_invalid() throws IOException {
+        Path store = directory.resolve("keys.properties");
+        writeKeys(store, "active=k1\nkey.k1=" + FIRST_SECRET + "\n", 1);
+        SigningKeyRegistry underTest = new SigningKeyRegistry(DEFAULT_SECRET, store.toString(), "",
+                new TokenCache(false, 100));
+        underTest.load();
+
+        writeKeys(store, "active=missing\nkey.k1=" + FIRST_SECRET + "\n", 2);
+        underTest.reload();
+        assertEquals("k1", underTest.active().getKid());
+    }
+
+    private KeyPair keyPair(SignatureAlgorithm algorithm) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.isRsa() ? "RSA" : "EC");
+        generator.initialize(algorithm.isRsa() ? 2048 : 256);
+        return generator.generateKeyPair();
+    }
+
+    private String asymmetricEntry(String kid, SignatureAlgorithm algorithm, KeyPair keyPair, boolean withPrivate) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        String entry = "key." + kid + ".alg=" + algorithm.getValue() + "\n"
+                + "key." + kid + ".public=" + encoder.encodeToString(keyPair.getPublic().getEncoded()) + "\n";
+        if (withPrivate)
+            entry += "key." + kid + ".private=" + encoder.encodeToString(keyPair.getPrivate().getEncoded()) + "\n";
+        return entry;
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SignatureAlgorithm.class, names = { "RS256", "ES256" })
+    void should_verify_asymmetric_tokens_on_verifier_only_nodes(SignatureAlgorithm algorithm)
+            throws IOException, GeneralSecurityException {
+        KeyPair keyPair = keyPair(algorithm);
+        Path issuerStore = directory.resolve("issuer.properties");
+        writeKeys(issuerStore, "active=a1\n" + asymmetricEntry("a1", algorithm, keyPair, true), 1);
+        SigningKeyRegistry issuer = new SigningKeyRegistry(DEFAULT_SECRET, issuerStore.toString(), "",
+                new TokenCache(false, 100));
+        issuer.load();
+        String token = jwtUtils(issuer, "jwt").generateToken(user());
+
+        Path verifierStore = directory.resolve("verifier.properties");
+        writeKeys(verifierStore, asymmetricEntry("a1", algorithm, keyPair, false), 1);
+        SigningKeyRegistry verifier = new SigningKeyRegistry("", verifierStore.toString(), "",
+                new TokenCache(false, 100));
+        verifier.load();
+        JwtUtils verifierJwt = jwtUtils(verifier, "jwt");
+        assertFalse(verifier.canSign());
+        assertEquals(42L, verifierJwt.verify(token).getUserId());
+        assertThrows(IllegalStateException.class, () -> verifierJwt.generateToken(user()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SignatureAlgorithm.class, names = { "RS256", "ES256" })
+    void should_round_trip_public_keys_through_jwk(SignatureAlgorithm algorithm) throws GeneralSecurityException {
+        KeyPair keyPair = keyPair(algorithm);
+        SigningKey key = SigningKey.asymmetric("a1", (short) 7, algorithm, keyPair.getPrivate(), keyPair.getPublic());
+        SigningKey parsed = JsonWebKeys.fromJwk(JsonWebKeys.toJwk(key), (short) 7);
+        assertEquals(keyPair.getPublic(), parsed.getVerificationKey());
+        assertEquals(algorithm, parsed.getAlgorithm());
+        assertFalse(parsed.canSign());
+    }
+
+    @Test
+    void should_pick_up_key_republished_under_same_kid() throws IOException, GeneralSecurityException {
+        KeyPair first = keyPair(SignatureAlgorithm.RS256);
+        KeyPair second = keyPair(SignatureAlgorithm.RS256);
+        AtomicReference<KeyPair> published = new AtomicReference<>(first);
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/jwks", exchange -> {
+            KeyPair keyPair = published.get();
+            SigningKey key = SigningKey.asymmetric("a1", (short) 7, SignatureAlgorithm.RS256, null,
+                    keyPair.getPublic());
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("keys", List.of(JsonWebKeys.toJwk(key))));
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try {
+            Path store = directory.resolve("issuer.properties");
+            writeKeys(store, "active=a1\n" + asymmetricEntry("a1", SignatureAlgorithm.RS256, first, true), 1);
+            SigningKeyRegistry issuer = new SigningKeyRegistry("", store.toString(), "", new TokenCache(false, 100));
+            issuer.load();
+            String oldToken = jwtUtils(issuer, "jwt").generateToken(user());
+
+            SigningKeyRegistry verifier = new SigningKeyRegistry("", "",
+                    "http://localhost:" + server.getAddress().getPort() + "/jwks", new TokenCache(true, 100));
+            verifier.load();
+            JwtUtils verifierJwt = jwtUtils(verifier, "jwt");
+            assertEquals(42L, verifierJwt.verify(oldToken).getUserId());
+
+            published.set(second);
+            writeKeys(store, "active=a1\n" + asymmetricEntry("a1", SignatureAlgorithm.RS256, second, true), 2);
+            issuer.reload();
+            String newToken = jwtUtils(issuer, "jwt").generateToken(user());
+            verifier.reload();
+            assertEquals(second.getPublic(), verifier.byKid("a1").getVerificationKey());
+            assertEquals(42L, verifierJwt.verify(newToken).getUserId());
+            assertThrows(SignatureException.class, () -> verifierJwt.verify(oldToken));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void should_reject_hmac_token_claiming_asymmetric_key() throws IOException, GeneralSecurityException {
+        Path store = directory.resolve("keys.properties");
+        writeKeys(store, "active=k1\nkey.k1=" + FIRST_SECRET + "\n"
+                + asymmetricEntry("a1", SignatureAlgorithm.RS256, keyPair(SignatureAlgorithm.RS256), false), 1);
+        SigningKeyRegistry underTest = new SigningKeyRegistry(DEFAULT_SECRET, store.toString(), "",
+                new TokenCache(false, 100));
+        underTest.load();
+        String forged = Jwts.builder()
+                .setHeaderParam("kid", "a1")
+                .setSubject("forged")
+                .signWith(SignatureAlgorithm.HS256, FIRST_SECRET)
+                .compact();
+        assertThrows(SignatureException.class, () -> jwtUtils(underTest, "jwt").verify(forged));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.example.manage_tasks.models.TokenPrincipal;
+
+import org.junit.jupiter.api.Test;
+
+class TokenCacheTest {
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private Function<String, TokenPrincipal> verifier(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new TokenPrincipal(1L, 1L, "ayush@gmail.com", "ayush", AuthorityRegistry.NONE,
+                    expiresAt.minusSeconds(900), expiresAt);
+        };
+    }
+
+    @Test
+    void should_verify_once_when_enabled() {
+        TokenCache underTest = new TokenCache(true, 100);
+        Function<String, TokenPrincipal> verifier = verifier(Instant.now().plusSeconds(60));
+        TokenPrincipal first = underTest.get("token", verifier);
+        assertSame(first, underTest.get("token", verifier));
+        assertEquals(1, verifications.get());
+        assertEquals(1, underTest.stats().hitCount());
+    }
+
+    @Test
+    void should_always_verify_when_disabled() {
+        TokenCache underTest = new TokenCache(false, 100);
+        Function<String, TokenPrincipal> verifier = verifier(Instant.now().plusSeconds(60));
+        underTest.get("token", verifier);
+        underTest.get("token", verifier);
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void should_not_serve_expired_or_invalidated_entries() {
+        TokenCache underTest = new TokenCache(true, 100);
+        underTest.get("expired", verifier(Instant.now().minusSeconds(1)));
+        assertEquals(2, verifications.get());
+
+        Function<String, TokenPrincipal> verifier = verifier(Instant.now().plusSeconds(60));
+        underTest.get("token", verifier);
+        underTest.invalidate("token");
+        underTest.get("token", verifier);
+        assertEquals(4, verifications.get());
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import com.example.manage_tasks.models.TokenPrincipal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TokenDenylistTest {
+    @TempDir
+    Path directory;
+
+    private TokenPrincipal token(long userId, long tokenId, Instant issuedAt, Instant expiresAt) {
+        return new TokenPrincipal(userId, tokenId, "ayush@gmail.com", "ayush", AuthorityRegistry.NONE, issuedAt,
+                expiresAt);
+    }
+
+    @Test
+    void should_revoke_single_tokens_and_everything_issued_before() {
+        TokenDenylist underTest = new TokenDenylist(1 << 16, 900_000, "", "issuer");
+        Instant now = Instant.now();
+        TokenPrincipal revoked = token(1, 11, now, now.plusSeconds(900));
+        TokenPrincipal other = token(1, 12, now, now.plusSeconds(900));
+        underTest.revoke(revoked);
+        assertTrue(underTest.isRevoked(revoked));
+        assertFalse(underTest.isRevoked(other));
+
+        underTest.revokeAllBefore(2, now);
+        assertTrue(underTest.isRevoked(token(2, 21, now.minusSeconds(5), now.plusSeconds(900))));
+        assertFalse(underTest.isRevoked(token(2, 22, now.plusSeconds(5), now.plusSeconds(900))));
+    }
+
+    @Test
+    void should_keep_tokens_issued_in_the_same_second_after_revoke_all() {
+        TokenDenylist underTest = new TokenDenylist(1 << 16, 900_000, "", "issuer");
+        Instant revokedAt = Instant.ofEpochSecond(Instant.now().getEpochSecond(), 500_000_000);
+        underTest.revokeAllBefore(3, revokedAt);
+        assertTrue(underTest.isRevoked(token(3, 31, revokedAt.minusMillis(1), revokedAt.plusSeconds(900))));
+        assertFalse(underTest.isRevoked(token(3, 32, revokedAt, revokedAt.plusSeconds(900))));
+        assertFalse(underTest.isRevoked(token(3, 33, revokedAt.plusMillis(1), revokedAt.plusSeconds(900))));
+    }
+
+    @Test
+    void should_drop_entries_once_tokens_expire() {
+        TokenDenylist underTest = new TokenDenylist(1 << 16, 900_000, "", "issuer");
+        Instant now = Instant.now();
+        underTest.revoke(token(1, 11, now.minusSeconds(900), now.minusSeconds(1)));
+        underTest.revoke(token(1, 12, now, now.plusSeconds(900)));
+        underTest.sweep();
+        assertEquals(1, underTest.size());
+    }
+
+    @Test
+    void should_survive_restarts() throws Exception {
+        String store = directory.resolve("revocations.log").toString();
+        Instant now = Instant.now();
+        TokenPrincipal revoked = token(1, 11, now, now.plusSeconds(900));
+        TokenDenylist first = new TokenDenylist(1 << 16, 900_000, store, "issuer");
+        first.load();
+        first.revoke(revoked);
+        first.revokeAllBefore(2, now);
+        first.close();
+
+        TokenDenylist second = new TokenDenylist(1 << 16, 900_000, store, "issuer");
+        second.load();
+        assertTrue(second.isRevoked(revoked));
+        assertTrue(second.isRevoked(token(2, 21, now.minusSeconds(5), now.plusSeconds(900))));
+        second.close();
+    }
+
+    @Test
+    void should_follow_issuer_revocations_on_verifiers() throws Exception {
+        String store = directory.resolve("shared.log").toString();
+        Instant now = Instant.now();
+        TokenPrincipal first = token(1, 11, now, now.plusSeconds(900));
+        TokenPrincipal second = token(1, 12, now, now.plusSeconds(900));
+        TokenDenylist issuer = new TokenDenylist(1 << 16, 900_000, store, "issuer");
+        issuer.load();
+        TokenDenylist verifier = new TokenDenylist(1 << 16, 900_000, store, "verifier");
+        verifier.load();
+
+        issuer.revoke(first);
+        assertFalse(verifier.isRevoked(first));
+        verifier.poll();
+        assertTrue(verifier.isRevoked(first));
+
+        issuer.sweep();
+        issuer.revoke(second);
+        verifier.poll();
+        assertTrue(verifier.isRevoked(second));
+        assertEquals(2, verifier.size());
+        issuer.close();
+        verifier.close();
+    }
+
+    @Test
+    void should_not_store_tokens_without_id() {
+        TokenDenylist underTest = new TokenDenylist(1 << 16, 900_000, "", "issuer");
+        Instant now = Instant.now();
+        TokenPrincipal anonymous = token(5, 0, now, now.plusSeconds(900));
+        underTest.revoke(anonymous);
+        assertFalse(underTest.isRevoked(anonymous));
+        assertEquals(0, underTest.size());
+    }
+}
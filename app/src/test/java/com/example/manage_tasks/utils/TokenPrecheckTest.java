@@ -0,0 +1,73 @@
+package com.example.manage_tasks.utils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.example.manage_tasks.exceptions.InvalidTokenException;
+import com.example.manage_tasks.exceptions.InvalidTokenException.Reason;
+import com.example.manage_tasks.models.User;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+class TokenPrecheckTest {
+    private static final String SECRET = "gttyvitvuntcutfbcitfctnvtnvvtntvtntyiit";
+    private final CompactTokenCodec compactTokenCodec = new CompactTokenCodec(
+            new SigningKeyRegistry(SECRET, "", "", new TokenCache(false, 100)),
+            new String[] { "NONE", "USER" });
+    private final TokenPrecheck underTest = new TokenPrecheck(compactTokenCodec, 512);
+
+    private static String jwt(Instant expiresAt) {
+        return Jwts.builder()
+                .claim("username", "exp")
+                .setExpiration(Date.from(expiresAt))
+                .signWith(SignatureAlgorithm.HS256, SECRET)
+                .compact();
+    }
+
+    private Reason rejection(String token) {
+        return assertThrows(InvalidTokenException.class, () -> underTest.check(token)).getReason();
+    }
+
+    @Test
+    void should_pass_live_tokens() {
+        assertDoesNotThrow(() -> underTest.check(jwt(Instant.now().plusSeconds(60))));
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        user.setUserId(42L);
+        assertDoesNotThrow(() -> underTest.check(
+                compactTokenCodec.encode(user, Instant.now(), Instant.now().plusSeconds(60))));
+    }
+
+    @Test
+    void should_reject_expired_tokens_before_verifying() {
+        assertEquals(Reason.EXPIRED, rejection(jwt(Instant.now().minusSeconds(60))));
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        user.setUserId(42L);
+        assertEquals(Reason.EXPIRED, rejection(
+                compactTokenCodec.encode(user, Instant.now().minusSeconds(120), Instant.now().minusSeconds(60))));
+    }
+
+    @Test
+    void should_reject_malformed_and_oversized_tokens() {
+        assertEquals(Reason.MALFORMED, rejection(""));
+        assertEquals(Reason.MALFORMED, rejection("not a token"));
+        assertEquals(Reason.MALFORMED, rejection("a.b"));
+        assertEquals(Reason.MALFORMED, rejection("a.b.c.d"));
+        assertEquals(Reason.MALFORMED, rejection("a..c"));
+        assertEquals(Reason.OVERSIZED, rejection("a".repeat(513)));
+    }
+
+    @Test
+    void should_share_stackless_rejections() {
+        InvalidTokenException e = assertThrows(InvalidTokenException.class, () -> underTest.check("a.b"));
+        assertSame(InvalidTokenException.of(Reason.MALFORMED), e);
+        assertEquals(0, e.getStackTrace().length);
+    }
+}
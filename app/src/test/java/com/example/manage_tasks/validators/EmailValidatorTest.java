@@ -0,0 +1,50 @@
+package com.example.manage_tasks.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class EmailValidatorTest {
+    private EmailValidator underTest;
+    @BeforeEach
+    public void setUp() {
+       underTest=new EmailValidator();
+    }
+    @Test
+    void validate(){
+       assertTrue(underTest.test("ayush@gmail.com"));
+       assertFalse(underTest.test("ayush"));
+       assertFalse(underTest.test("ayush@"));
+       assertFalse(underTest.test("ayush@."));
+    }
+    @Test
+    void validate_same_as_previous_pattern(){
+       assertTrue(underTest.test("ayush.kumar+tasks@mail.example.org"));
+       assertTrue(underTest.test("a@b..co"));
+       assertFalse(underTest.test("@gmail.com"));
+       assertFalse(underTest.test("ayush@gmail"));
+       assertFalse(underTest.test("ayush@gmail.c"));
+       assertFalse(underTest.test("ayush@gmail.comma"));
+       assertFalse(underTest.test("ayush@gmail.c0m"));
+       assertFalse(underTest.test("ayush@@gmail.com"));
+       assertFalse(underTest.test("ay ush@gmail.com"));
+       assertFalse(underTest.test("ayush@gm_ail.com"));
+       assertFalse(underTest.test(null));
+    }
+    @Test
+    void validate_and_normalize_case_and_whitespace(){
+       assertTrue(underTest.test("  Ayush@Gmail.COM "));
+       assertEquals("ayush@gmail.com", underTest.normalize("  Ayush@Gmail.COM "));
+    }
+    @Test
+    void reject_overlong_input(){
+       EmailValidator shortLimit = new EmailValidator(16);
+       assertTrue(shortLimit.test("ayush@gmail.com"));
+       assertFalse(shortLimit.test("ayush.kumar@gmail.com"));
+    }
+}
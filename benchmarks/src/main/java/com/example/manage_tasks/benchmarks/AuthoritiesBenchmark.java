@@ -0,0 +1,39 @@
+package com.example.manage_tasks.benchmarks;
+
+import java.util.Collection;
+
+import com.example.manage_tasks.models.CustomUserDetails;
+import com.example.manage_tasks.models.User;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AuthoritiesBenchmark {
+    @Param({ "NONE", "USER,ADMIN" })
+    public String roles;
+    private CustomUserDetails userDetails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User user = new User("ayush", "123456", "ayush@gmail.com");
+        user.setRoles(roles);
+        userDetails = new CustomUserDetails(user);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return userDetails.getAuthorities();
+    }
+}
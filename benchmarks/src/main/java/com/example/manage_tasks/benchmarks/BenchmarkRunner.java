@@ -0,0 +1,38 @@
+package com.example.manage_tasks.benchmarks;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*";
+        int threads = args.length > 1 && !"max".equals(args[1])
+                ? Integer.parseInt(args[1])
+                : Runtime.getRuntime().availableProcessors();
+        Path resultDirectory = Path.of(args.length > 2 ? args[2] : "target");
+        run(include, 1, resultDirectory.resolve("jmh-result-single-thread.json"));
+        run(include, threads, resultDirectory.resolve("jmh-result-multi-thread.json"));
+    }
+
+    private static void run(String include, int threads, Path result) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(include)
+                .threads(threads)
+                .mode(Mode.Throughput)
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.manage_tasks.benchmarks;
+
+import java.util.regex.Pattern;
+
+import com.example.manage_tasks.validators.EmailValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmailValidatorBenchmark {
+    private static final String REGEX = "[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,4}";
+    private static final Pattern PRECOMPILED = Pattern.compile(REGEX);
+    @Param({ "ayush@gmail.com", "ayush.kumar+tasks@mail.example.org", "ayushgmail.com" })
+    public String email;
+    private final EmailValidator emailValidator = new EmailValidator();
+
+    @Benchmark
+    public boolean scanner() {
+        return emailValidator.test(email);
+    }
+
+    @Benchmark
+    public boolean regexCompiledPerCall() {
+        return Pattern.compile(REGEX).matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean regexPrecompiled() {
+        return PRECOMPILED.matcher(email).matches();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.manage_tasks.benchmarks;
+
+import com.example.manage_tasks.models.CustomUserDetails;
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.utils.CompactTokenCodec;
+import com.example.manage_tasks.utils.JwtUtils;
+import com.example.manage_tasks.utils.SigningKeyRegistry;
+import com.example.manage_tasks.utils.TokenCache;
+import com.example.manage_tasks.utils.TokenDenylist;
+import com.example.manage_tasks.utils.TokenPrecheck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtBenchmark {
+    @Param({ "false", "true" })
+    public boolean cacheEnabled;
+    @Param({ "jwt", "compact" })
+    public String tokenFormat;
+    private JwtUtils jwtUtils;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        jwtUtils = new JwtUtils(new TokenCache(cacheEnabled, 10_000), application.bean(CompactTokenCodec.class),
+                application.bean(TokenDenylist.class), application.bean(SigningKeyRegistry.class),
+                application.bean(TokenPrecheck.class), Long.parseLong(application.property("jwt.time_delta")),
+                tokenFormat);
+        user = new User("ayush", "123456", "ayush@gmail.com");
+        user.setUserId(42L);
+        token = jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public TokenPrincipal verify() {
+        return jwtUtils.verify(token);
+    }
+
+    @Benchmark
+    public boolean verifyToken() {
+        return jwtUtils.verifyToken(token);
+    }
+
+    @Benchmark
+    public CustomUserDetails extractUser() {
+        return jwtUtils.extractUser(token);
+    }
+}
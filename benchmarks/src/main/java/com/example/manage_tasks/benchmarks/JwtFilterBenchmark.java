@@ -0,0 +1,77 @@
+package com.example.manage_tasks.benchmarks;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+
+import com.example.manage_tasks.configuration.JwtFilter;
+import com.example.manage_tasks.configuration.SecurityConfig;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.utils.AuthMetrics;
+import com.example.manage_tasks.utils.JwtUtils;
+import com.example.manage_tasks.utils.RouteMatcher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtFilterBenchmark {
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+    private JwtFilter filter;
+    private MockHttpServletRequest authenticated;
+    private MockHttpServletRequest anonymous;
+    private MockHttpServletRequest publicRoute;
+    private MockHttpServletResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        JwtUtils jwtUtils = application.bean(JwtUtils.class);
+        filter = new JwtFilter(jwtUtils, application.bean(AuthMetrics.class), "token",
+                new RouteMatcher(SecurityConfig.PUBLIC_ROUTES));
+        String token = jwtUtils.generateToken(new User("ayush", "123456", "ayush@gmail.com"));
+        authenticated = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        authenticated.setCookies(new Cookie("token", token));
+        anonymous = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        publicRoute = new MockHttpServletRequest("POST", "/api/v1/users/login");
+        publicRoute.setServletPath("/api/v1/users/login");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws ServletException, IOException {
+        return filter(authenticated);
+    }
+
+    @Benchmark
+    public Authentication anonymousRequest() throws ServletException, IOException {
+        return filter(anonymous);
+    }
+
+    @Benchmark
+    public Authentication publicRequest() throws ServletException, IOException {
+        return filter(publicRoute);
+    }
+
+    private Authentication filter(MockHttpServletRequest request) throws ServletException, IOException {
+        filter.doFilter(request, response, CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
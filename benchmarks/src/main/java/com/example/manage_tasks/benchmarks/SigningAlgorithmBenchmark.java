@@ -0,0 +1,86 @@
+package com.example.manage_tasks.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+import com.example.manage_tasks.models.TokenPrincipal;
+import com.example.manage_tasks.models.User;
+import com.example.manage_tasks.utils.CompactTokenCodec;
+import com.example.manage_tasks.utils.JwtUtils;
+import com.example.manage_tasks.utils.SigningKeyRegistry;
+import com.example.manage_tasks.utils.TokenCache;
+import com.example.manage_tasks.utils.TokenDenylist;
+import com.example.manage_tasks.utils.TokenPrecheck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SigningAlgorithmBenchmark {
+    private static final String SECRET = "gttyvitvuntcutfbcitfctnvtnvvtntvtntyiit";
+    @Param({ "HS256", "RS256", "ES256" })
+    public String algorithm;
+    private Path store;
+    private JwtUtils jwtUtils;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, GeneralSecurityException {
+        store = Files.createTempFile("signing-keys", ".properties");
+        Files.writeString(store, keystore());
+        SigningKeyRegistry registry = new SigningKeyRegistry(SECRET, store.toString(), "",
+                new TokenCache(false, 100));
+        registry.load();
+        CompactTokenCodec codec = new CompactTokenCodec(registry, new String[] { "NONE", "USER", "ADMIN" });
+        jwtUtils = new JwtUtils(new TokenCache(false, 100), codec,
+                new TokenDenylist(1 << 16, 900_000, "", "issuer"), registry, new TokenPrecheck(codec, 4096), 900_000,
+                "jwt");
+        user = new User("ayush", "123456", "ayush@gmail.com");
+        user.setUserId(42L);
+        token = jwtUtils.generateToken(user);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(store);
+    }
+
+    private String keystore() throws GeneralSecurityException {
+        if ("HS256".equals(algorithm))
+            return "active=bench\nkey.bench=" + SECRET + "\n";
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RS256".equals(algorithm) ? "RSA" : "EC");
+        generator.initialize("RS256".equals(algorithm) ? 2048 : 256);
+        KeyPair keyPair = generator.generateKeyPair();
+        Base64.Encoder encoder = Base64.getEncoder();
+        return "active=bench\nkey.bench.alg=" + algorithm + "\n"
+                + "key.bench.public=" + encoder.encodeToString(keyPair.getPublic().getEncoded()) + "\n"
+                + "key.bench.private=" + encoder.encodeToString(keyPair.getPrivate().getEncoded()) + "\n";
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtils.generateToken(user);
+    }
+
+    @Benchmark
+    public TokenPrincipal verify() {
+        return jwtUtils.verify(token);
+    }
+}
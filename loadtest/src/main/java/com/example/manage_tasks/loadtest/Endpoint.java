@@ -0,0 +1,9 @@
+package com.example.manage_tasks.loadtest;
+
+enum Endpoint {
+    SIGNUP, LOGIN, AUTHENTICATED;
+
+    String label() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.manage_tasks.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+final class LoadConfig {
+    final String target;
+    final int rate;
+    final Duration warmup;
+    final Duration duration;
+    final int users;
+    final Map<Endpoint, Integer> mix;
+    final String authenticatedPath;
+    final String cookieName;
+    final long seed;
+    final Duration timeout;
+    final Path output;
+    final List<String> appProperties;
+
+    private LoadConfig() {
+        this.target = System.getProperty("load.target", "").strip();
+        this.rate = Integer.getInteger("load.rate", 200);
+        this.warmup = Duration.ofSeconds(Long.getLong("load.warmup", 10));
+        this.duration = Duration.ofSeconds(Long.getLong("load.duration", 60));
+        this.users = Integer.getInteger("load.users", 100);
+        this.mix = parseMix(System.getProperty("load.mix", "signup=1,login=2,authenticated=17"));
+        this.authenticatedPath = System.getProperty("load.authenticated_path", "/api/v1/users/me");
+        this.cookieName = System.getProperty("load.cookie_name", "token");
+        this.seed = Long.getLong("load.seed", 42);
+        this.timeout = Duration.ofSeconds(Long.getLong("load.timeout", 30));
+        this.output = Path.of(System.getProperty("load.output", "target"));
+        this.appProperties = parseAppProperties(System.getProperty("load.app_properties", ""));
+        if (rate <= 0 || users <= 0)
+            throw new IllegalArgumentException("load.rate and load.users must be positive");
+    }
+
+    static LoadConfig fromSystemProperties() {
+        return new LoadConfig();
+    }
+
+    boolean inProcess() {
+        return target.isEmpty();
+    }
+
+    private static List<String> parseAppProperties(String properties) {
+        if (properties.isBlank())
+            return List.of();
+        List<String> parsed = List.of(properties.strip().split("\\s+"));
+        for (String property : parsed) {
+            if (property.indexOf('=') <= 0)
+                throw new IllegalArgumentException("load.app_properties entries look like name=value: " + property);
+        }
+        return parsed;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("load.mix entries look like endpoint=weight: " + entry);
+            int weight = Integer.parseInt(parts[1].strip());
+            if (weight > 0)
+                weights.put(Endpoint.valueOf(parts[0].strip().toUpperCase()), weight);
+        }
+        if (weights.isEmpty())
+            throw new IllegalArgumentException("load.mix has no positive weights");
+        return weights;
+    }
+}
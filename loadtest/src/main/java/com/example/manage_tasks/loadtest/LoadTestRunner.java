@@ -0,0 +1,125 @@
+package com.example.manage_tasks.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.manage_tasks.ManageTasksApplication;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public class LoadTestRunner {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final Duration TOKEN_LIFETIME_FLOOR = Duration.ofMinutes(15);
+    private static final Duration TOKEN_LIFETIME_MARGIN = Duration.ofMinutes(5);
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.fromSystemProperties();
+        ConfigurableApplicationContext context = config.inProcess() ? start(config) : null;
+        AtomicInteger clientThreads = new AtomicInteger();
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                task -> new Thread(task, ServerResources.CLIENT_THREAD_PREFIX + "client-" + clientThreads.incrementAndGet()));
+        try {
+            URI base = URI.create(context != null
+                    ? "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    : config.target);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            Workload workload = new Workload(config, base);
+            workload.seedAccounts(client);
+            Thread.currentThread().setName(ServerResources.CLIENT_THREAD_PREFIX + "scheduler");
+            OpenLoopDriver driver = new OpenLoopDriver(client, workload, config.rate);
+            System.out.printf("warming up for %s at %d req/s against %s%n", config.warmup, config.rate, base);
+            driver.run(config.warmup, config.timeout);
+            boolean measureServer = context != null && ServerResources.supported();
+            ServerResources before = measureServer ? ServerResources.snapshot() : null;
+            System.out.printf("measuring for %s at %d req/s%n", config.duration, config.rate);
+            PhaseResults results = driver.run(config.duration, config.timeout);
+            ServerResources server = measureServer ? ServerResources.snapshot().since(before) : null;
+            report(config, results, server);
+        } finally {
+            clientExecutor.shutdownNow();
+            if (context != null)
+                context.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadConfig config) {
+        // tokens seeded before the warmup have to outlive the whole run
+        long tokenLifetime = Math.max(TOKEN_LIFETIME_FLOOR.toMillis(),
+                config.warmup.plus(config.duration).plus(TOKEN_LIFETIME_MARGIN).toMillis());
+        List<String> args = new ArrayList<>();
+        for (String property : List.of("server.port=0",
+                "spring.jpa.show-sql=false",
+                "spring.datasource.url=jdbc:h2:mem:loadtest",
+                "rate_limit.enabled=false",
+                "jwt.time_delta=" + tokenLifetime,
+                "logging.level.root=WARN")) {
+            // command-line arguments beat application.yml; a -D of the same name still wins
+            if (System.getProperty(property.substring(0, property.indexOf('='))) == null)
+                args.add("--" + property);
+        }
+        for (String property : config.appProperties)
+            args.add("--" + property);
+        return new SpringApplicationBuilder(ManageTasksApplication.class)
+                .profiles("dev")
+                .run(args.toArray(String[]::new));
+    }
+
+    private static void report(LoadConfig config, PhaseResults results, ServerResources server) throws IOException {
+        Files.createDirectories(config.output);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(config.output.resolve("load-summary.txt")))) {
+            for (PrintStream out : new PrintStream[] { System.out, summary })
+                summarize(out, config, results, server);
+        }
+        for (Endpoint endpoint : config.mix.keySet()) {
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(config.output.resolve("load-" + endpoint.label() + ".hgrm")))) {
+                results.get(endpoint).responseTime().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private static void summarize(PrintStream out, LoadConfig config, PhaseResults results, ServerResources server) {
+        long sent = results.sent.sum();
+        out.printf("%n%d requests in %s (%.1f req/s offered, mix %s, seed %d)%n", sent, config.duration,
+                sent / (double) Math.max(1, config.duration.toSeconds()), config.mix, config.seed);
+        out.printf("%-14s %8s %7s | %-29s | %-29s%n", "", "", "", "response time ms", "service time ms");
+        out.printf("%-14s %8s %7s | %9s %9s %9s | %9s %9s %9s%n", "endpoint", "count", "errors",
+                "p50", "p99", "p999", "p50", "p99", "p999");
+        for (Endpoint endpoint : config.mix.keySet()) {
+            PhaseResults.EndpointResults endpointResults = results.get(endpoint);
+            Histogram response = endpointResults.responseTime();
+            Histogram service = endpointResults.serviceTime();
+            out.printf("%-14s %8d %7d | %9.2f %9.2f %9.2f | %9.2f %9.2f %9.2f%n", endpoint.label(),
+                    response.getTotalCount(), endpointResults.errors.sum(),
+                    millis(response, 50), millis(response, 99), millis(response, 99.9),
+                    millis(service, 50), millis(service, 99), millis(service, 99.9));
+        }
+        if (server == null) {
+            out.println("server CPU and allocation: not measured (remote target or unsupported JVM)");
+            return;
+        }
+        long requests = Math.max(1, sent);
+        out.printf("server CPU %.0f ms (%.1f us/request), allocated %.1f MB (%.1f KB/request), GC %d collections %d ms%n",
+                server.cpuNanos / NANOS_PER_MILLI, server.cpuNanos / 1_000.0 / requests,
+                server.allocatedBytes / (1024.0 * 1024), server.allocatedBytes / 1024.0 / requests,
+                server.gcCount, server.gcMillis);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.manage_tasks.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests on a fixed schedule regardless of how fast responses come back. Latency is taken from the
+ * scheduled send time, which is what corrects for coordinated omission: a slow response cannot delay the
+ * measurement of the requests that should have gone out behind it.
+ */
+final class OpenLoopDriver {
+    private final HttpClient client;
+    private final Workload workload;
+    private final long intervalNanos;
+
+    OpenLoopDriver(HttpClient client, Workload workload, int ratePerSecond) {
+        this.client = client;
+        this.workload = workload;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+    }
+
+    PhaseResults run(Duration duration, Duration drainTimeout) throws InterruptedException {
+        PhaseResults results = new PhaseResults();
+        AtomicInteger inFlight = new AtomicInteger();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0;; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end)
+                break;
+            long wait = intended - System.nanoTime();
+            if (wait > 0)
+                LockSupport.parkNanos(wait);
+            Endpoint endpoint = workload.next();
+            HttpRequest request = workload.request(endpoint);
+            inFlight.incrementAndGet();
+            long sent = System.nanoTime();
+            results.sent.increment();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        results.record(endpoint, intended, sent, System.nanoTime(),
+                                error == null && response.statusCode() < 400);
+                        inFlight.decrementAndGet();
+                    });
+        }
+        long drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline)
+            Thread.sleep(10);
+        if (inFlight.get() > 0)
+            System.out.printf("%d requests still in flight after %s, reporting without them%n", inFlight.get(),
+                    drainTimeout);
+        return results;
+    }
+}
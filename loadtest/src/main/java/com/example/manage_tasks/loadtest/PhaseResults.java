@@ -0,0 +1,53 @@
+package com.example.manage_tasks.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+final class PhaseResults {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private final Map<Endpoint, EndpointResults> endpoints = new EnumMap<>(Endpoint.class);
+    final LongAdder sent = new LongAdder();
+
+    PhaseResults() {
+        for (Endpoint endpoint : Endpoint.values())
+            endpoints.put(endpoint, new EndpointResults());
+    }
+
+    void record(Endpoint endpoint, long intendedNanos, long sentNanos, long completedNanos, boolean ok) {
+        EndpointResults results = endpoints.get(endpoint);
+        results.responseTime.recordValue(completedNanos - intendedNanos);
+        results.serviceTime.recordValue(completedNanos - sentNanos);
+        if (!ok)
+            results.errors.increment();
+    }
+
+    EndpointResults get(Endpoint endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    static final class EndpointResults {
+        // measured from the scheduled send time, so stalls on the server count against every request queued behind them
+        private final Recorder responseTime = new Recorder(SIGNIFICANT_DIGITS);
+        // measured from the actual send time: what a closed-loop client would have reported
+        private final Recorder serviceTime = new Recorder(SIGNIFICANT_DIGITS);
+        final LongAdder errors = new LongAdder();
+        private Histogram responseHistogram;
+        private Histogram serviceHistogram;
+
+        Histogram responseTime() {
+            if (responseHistogram == null)
+                responseHistogram = responseTime.getIntervalHistogram();
+            return responseHistogram;
+        }
+
+        Histogram serviceTime() {
+            if (serviceHistogram == null)
+                serviceHistogram = serviceTime.getIntervalHistogram();
+            return serviceHistogram;
+        }
+    }
+}
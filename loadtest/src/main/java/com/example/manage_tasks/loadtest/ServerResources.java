@@ -0,0 +1,77 @@
+package com.example.manage_tasks.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * CPU time and allocation of every thread in this JVM except the load generator's own. Only meaningful when the
+ * application runs in-process; threads that exit between two snapshots take their share with them.
+ */
+final class ServerResources {
+    static final String CLIENT_THREAD_PREFIX = "load-";
+    private static final String JDK_CLIENT_THREAD_PREFIX = "HttpClient-";
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    final long cpuNanos;
+    final long allocatedBytes;
+    final long gcCount;
+    final long gcMillis;
+    private final Map<Long, long[]> perThread;
+
+    private ServerResources(Map<Long, long[]> perThread, long gcCount, long gcMillis) {
+        this.perThread = perThread;
+        long cpu = 0;
+        long allocated = 0;
+        for (long[] usage : perThread.values()) {
+            cpu += usage[0];
+            allocated += usage[1];
+        }
+        this.cpuNanos = cpu;
+        this.allocatedBytes = allocated;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+    }
+
+    static boolean supported() {
+        return THREADS.isThreadCpuTimeSupported() && THREADS.isThreadAllocatedMemorySupported();
+    }
+
+    static ServerResources snapshot() {
+        long[] ids = THREADS.getAllThreadIds();
+        ThreadInfo[] infos = THREADS.getThreadInfo(ids);
+        long[] cpu = THREADS.getThreadCpuTime(ids);
+        long[] allocated = THREADS.getThreadAllocatedBytes(ids);
+        Map<Long, long[]> perThread = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (infos[i] == null || cpu[i] < 0 || isClientThread(infos[i].getThreadName()))
+                continue;
+            perThread.put(ids[i], new long[] { cpu[i], allocated[i] });
+        }
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcMillis += Math.max(0, gc.getCollectionTime());
+        }
+        return new ServerResources(perThread, gcCount, gcMillis);
+    }
+
+    // usage accrued since an earlier snapshot; threads started in between count from zero
+    ServerResources since(ServerResources earlier) {
+        Map<Long, long[]> delta = new HashMap<>();
+        perThread.forEach((id, usage) -> {
+            long[] before = earlier.perThread.getOrDefault(id, new long[2]);
+            delta.put(id, new long[] { usage[0] - before[0], usage[1] - before[1] });
+        });
+        return new ServerResources(delta, gcCount - earlier.gcCount, gcMillis - earlier.gcMillis);
+    }
+
+    private static boolean isClientThread(String name) {
+        return name.startsWith(CLIENT_THREAD_PREFIX) || name.startsWith(JDK_CLIENT_THREAD_PREFIX);
+    }
+}
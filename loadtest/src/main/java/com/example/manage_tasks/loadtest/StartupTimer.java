@@ -0,0 +1,146 @@
+package com.example.manage_tasks.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * Starts the packaged application once per run and mode and measures the wall time from process launch to the
+ * first 2xx answer on an authenticated request. The token is minted here with the shared secret, so nothing but
+ * token verification sits on the measured path. Needs {@code mvn -Pcds package} in the application first.
+ */
+public class StartupTimer {
+    private static final String MAIN_CLASS = "com.example.manage_tasks.ManageTasksApplication";
+    private static final String ARCHIVE = "manage_tasks.jsa";
+
+    public static void main(String[] args) throws Exception {
+        Path appDir = Path.of(System.getProperty("startup.app_dir", "../app/target")).toAbsolutePath().normalize();
+        int runs = Integer.getInteger("startup.runs", 5);
+        int port = Integer.getInteger("startup.port", 18080);
+        String path = System.getProperty("load.authenticated_path", "/api/v1/users/me");
+        String secret = System.getProperty("startup.secret", "gttyvitvuntcutfbcitfctnvtnvvtntvtntyiit");
+        Path output = Path.of(System.getProperty("load.output", "target"));
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Cookie", System.getProperty("load.cookie_name", "token") + "=" + token(secret))
+                .timeout(Duration.ofSeconds(1))
+                .GET()
+                .build();
+
+        Map<String, long[]> results = new LinkedHashMap<>();
+        for (String mode : System.getProperty("startup.modes", "default,lean,lean-cds").split(",")) {
+            List<String> command = command(appDir, mode.strip(), port);
+            if (command == null)
+                continue;
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++)
+                millis[run] = timeToFirstRequest(command, client, request);
+            Arrays.sort(millis);
+            results.put(mode.strip(), millis);
+        }
+        Files.createDirectories(output);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(output.resolve("startup-summary.txt")))) {
+            for (PrintStream out : new PrintStream[] { System.out, summary }) {
+                out.printf("%ntime to first authenticated %s, %d runs each%n", path, runs);
+                out.printf("%-10s %8s %8s %8s%n", "mode", "min ms", "median", "max");
+                results.forEach((mode, millis) -> out.printf("%-10s %8d %8d %8d%n", mode, millis[0],
+                        millis[millis.length / 2], millis[millis.length - 1]));
+            }
+        }
+    }
+
+    private static List<String> command(Path appDir, String mode, int port) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        switch (mode) {
+        case "default":
+            command.add("-Dspring.profiles.active=dev");
+            break;
+        case "lean":
+            command.add("-Dspring.profiles.active=dev,lean");
+            break;
+        case "verifier":
+            command.add("-Dspring.profiles.active=dev,verifier");
+            break;
+        case "lean-cds":
+            Path archive = appDir.resolve(ARCHIVE);
+            if (!Files.exists(archive)) {
+                System.out.printf("skipping lean-cds: %s not found, build with mvn -Pcds package%n", archive);
+                return null;
+            }
+            command.add("-XX:SharedArchiveFile=" + archive);
+            command.add("-Dspring.profiles.active=dev,lean");
+            break;
+        default:
+            throw new IllegalArgumentException("unknown startup mode " + mode);
+        }
+        command.add("-Dserver.port=" + port);
+        command.add("-classpath");
+        command.add(appJar(appDir) + File.pathSeparator + appDir.resolve("lib") + File.separator + "*");
+        command.add(MAIN_CLASS);
+        return command;
+    }
+
+    private static Path appJar(Path appDir) {
+        try (var files = Files.list(appDir)) {
+            return files.filter(file -> file.getFileName().toString().matches("manage_tasks-.*-plain\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("no application jar in " + appDir));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long timeToFirstRequest(List<String> command, HttpClient client, HttpRequest request)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (process.isAlive()) {
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2)
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    throw new IllegalStateException("authenticated request answered " + response.statusCode());
+                } catch (IOException notListeningYet) {
+                    Thread.sleep(5);
+                }
+            }
+            throw new IllegalStateException("application exited with " + process.exitValue() + ": " + command);
+        } finally {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static String token(String secret) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .claim("email", "startup@example.com")
+                .claim("username", "startup")
+                .claim("roles", "NONE")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .signWith(SignatureAlgorithm.HS256, secret)
+                .compact();
+    }
+}
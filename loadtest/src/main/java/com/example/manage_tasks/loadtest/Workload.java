@@ -0,0 +1,128 @@
+package com.example.manage_tasks.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Deterministic request mix: the same seed yields the same sequence of endpoints and accounts. Only the scheduler
+ * thread calls {@link #next()}.
+ */
+final class Workload {
+    private static final int SEED_BATCH = 32;
+    private final LoadConfig config;
+    private final URI base;
+    private final Endpoint[] picks;
+    private final SplittableRandom random;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final List<Account> accounts = new ArrayList<>();
+    private long signups;
+
+    Workload(LoadConfig config, URI base) {
+        this.config = config;
+        this.base = base;
+        this.random = new SplittableRandom(config.seed);
+        List<Endpoint> table = new ArrayList<>();
+        for (Map.Entry<Endpoint, Integer> weight : config.mix.entrySet()) {
+            for (int i = 0; i < weight.getValue(); i++)
+                table.add(weight.getKey());
+        }
+        this.picks = table.toArray(Endpoint[]::new);
+    }
+
+    void seedAccounts(HttpClient client) {
+        for (int from = 0; from < config.users; from += SEED_BATCH) {
+            List<CompletableFuture<Account>> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + SEED_BATCH, config.users); i++) {
+                Account account = new Account("seed-" + runId + "-" + i + "@example.com", "password" + i);
+                batch.add(client.sendAsync(signup(account), HttpResponse.BodyHandlers.discarding())
+                        .thenApply(response -> account.withToken(tokenCookie(response))));
+            }
+            for (CompletableFuture<Account> account : batch) {
+                Account seeded = account.join();
+                if (seeded.token == null)
+                    throw new IllegalStateException("seeding " + seeded.email + " returned no token cookie");
+                accounts.add(seeded);
+            }
+        }
+    }
+
+    Endpoint next() {
+        return picks[random.nextInt(picks.length)];
+    }
+
+    HttpRequest request(Endpoint endpoint) {
+        switch (endpoint) {
+        case SIGNUP:
+            long n = signups++;
+            return signup(new Account("load-" + runId + "-" + n + "@example.com", "password" + n));
+        case LOGIN:
+            return login(account());
+        default:
+            return HttpRequest.newBuilder(base.resolve(config.authenticatedPath))
+                    .timeout(config.timeout)
+                    .header("Cookie", config.cookieName + "=" + account().token)
+                    .GET()
+                    .build();
+        }
+    }
+
+    private Account account() {
+        return accounts.get(random.nextInt(accounts.size()));
+    }
+
+    private HttpRequest signup(Account account) {
+        return post("/api/v1/users/signup", account);
+    }
+
+    private HttpRequest login(Account account) {
+        return post("/api/v1/users/login", account);
+    }
+
+    private HttpRequest post(String path, Account account) {
+        String body = "{\"username\":\"" + account.email.substring(0, account.email.indexOf('@'))
+                + "\",\"password\":\"" + account.password + "\",\"email\":\"" + account.email + "\"}";
+        return HttpRequest.newBuilder(base.resolve(path))
+                .timeout(config.timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String tokenCookie(HttpResponse<?> response) {
+        String prefix = config.cookieName + "=";
+        for (String cookie : response.headers().allValues("set-cookie")) {
+            if (cookie.startsWith(prefix)) {
+                int end = cookie.indexOf(';');
+                return cookie.substring(prefix.length(), end < 0 ? cookie.length() : end);
+            }
+        }
+        return null;
+    }
+
+    private static final class Account {
+        final String email;
+        final String password;
+        final String token;
+
+        Account(String email, String password) {
+            this(email, password, null);
+        }
+
+        private Account(String email, String password, String token) {
+            this.email = email;
+            this.password = password;
+            this.token = token;
+        }
+
+        Account withToken(String token) {
+            return new Account(email, password, token);
+        }
+    }
+}
@@ -1,19 +0,0 @@
-package com.example.manage_tasks.validators;
-import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.springframework.stereotype.Component;
-
-@Component
-public class EmailValidator implements Predicate<String>{
-
-    @Override
-    public boolean test(String email) {
-        Pattern pattern = Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,4}");
-        Matcher mat = pattern.matcher(email);
-        return mat.matches();
-    }
-
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-package com.example.manage_tasks;
-
-import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
-
-@SpringBootTest
-class ManageTasksApplicationTests {
-
-	@Test
-	void contextLoads() {
-	}
-
-}